@@ -0,0 +1,254 @@
+package file.exportation;
+
+import funct.FunctString;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import model.structural.base.Diagram;
+import model.structural.base.Project;
+
+/**
+ * <p>Class of File <b>ExportContainer</b>.</p>
+ * <p>Class responsible for <b>Exporting the Project Container</b> in SMartyModeling.</p>
+ * <p>The Container is a Folder next to the Project File with one File for each Project Section and for each Diagram, plus a Index with the Files in the Export Order. The Container keeps the Content Hash of each Entry it saved, so a Save writes only the Entries whose Hash changed. The Diagram Hashes are cached by the Diagrams, while the Project Sections are exported once on every Save and hashed from that Export, since their Objects can change without notifying the Project.</p>
+ * <p>A changed Entry is written in a new File named by the Save Generation, and the Index is moved over the previous one after all the Files are written, so a interrupted Save leaves the previous Index and its Files untouched.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    file.importation.ImportContainer
+ * @see    model.structural.base.Project
+ */
+public class ExportContainer {
+    public static final String EXTENSION = ".container";
+    public static final String INDEX     = "index";
+    public static final String END       = "</project>";
+    private final Project project;
+    private final HashMap<String, String> hashes;
+    private final HashMap<String, String> files;
+    private final List<String> written;
+    private int generation;
+
+    /**
+     * Default constructor method of Class.
+     * @param project Project.
+     */
+    public ExportContainer(Project project) {
+        this.project    = project;
+        this.hashes     = new HashMap<>();
+        this.files      = new HashMap<>();
+        this.written    = new ArrayList<>();
+        this.generation = -1;
+    }
+
+    /**
+     * Method responsible for returning the Container Folder of a Project Path.
+     * @param  path Project Path.
+     * @return Container Folder.
+     */
+    public static File getFolder(String path) {
+        return new File(path + EXTENSION);
+    }
+
+    /**
+     * Method responsible for returning the Entry Name of a Diagram.
+     * @param  diagram Diagram.
+     * @return Entry Name.
+     */
+    public static String getEntry(Diagram diagram) {
+        return diagram.getId().replaceAll("[^A-Za-z0-9_-]", "_") + ".xml";
+    }
+
+    /**
+     * Method responsible for returning the Entry Name of a Container File.
+     * @param  file File Name.
+     * @return Entry Name.
+     */
+    private static String getEntry(String file) {
+        return file.substring(0, file.indexOf('.')) + ".xml";
+    }
+
+    /**
+     * Method responsible for returning the Save Generation of a Container File.
+     * @param  file File Name.
+     * @return Save Generation, or zero for a File without Generation.
+     */
+    private static int getGeneration(String file) {
+        String[] parts = file.split("\\.");
+        try {
+            return (parts.length > 2) ? Integer.parseInt(parts[1]) : 0;
+        } catch (NumberFormatException exception) {
+            return 0;
+        }
+    }
+
+    /**
+     * Method responsible for returning the Entries written by the last Save.
+     * @return Entries written.
+     */
+    public List<String> getWritten() {
+        return new ArrayList<>(this.written);
+    }
+
+    /**
+     * Method responsible for exporting the Container next to the Project File.
+     * @throws IOException Exception to write the Container.
+     */
+    public void export() throws IOException {
+        this.export(ExportContainer.getFolder(this.project.getPath()));
+    }
+
+    /**
+     * Method responsible for exporting the Container to a Folder.
+     * The Index is written after the Files of the changed Entries, so a interrupted Save keeps the previous Index valid.
+     * @param  folder Container Folder.
+     * @throws IOException Exception to write the Container.
+     */
+    public void export(File folder) throws IOException {
+        Files.createDirectories(folder.toPath());
+        this.open(folder);
+        this.written.clear();
+        this.generation++;
+        List<String> index = new ArrayList<>();
+        for (String section : Project.SECTIONS) {
+            if (section.equals("diagrams"))
+                this.exportDiagrams(folder, index);
+            else
+                this.exportSection(folder, index, section);
+        }
+        this.writeIndex(folder, String.join("\n", index).getBytes(StandardCharsets.UTF_8));
+        this.delete(folder, index);
+        this.project.setClean();
+    }
+
+    /**
+     * Method responsible for reading the Index of a existing Container on the first Save.
+     * @param  folder Container Folder.
+     * @throws IOException Exception to read the Index.
+     */
+    private void open(File folder) throws IOException {
+        if (this.generation >= 0)
+            return;
+        this.generation = 0;
+        File index = new File(folder, INDEX);
+        if (!index.isFile())
+            return;
+        for (String file : Files.readAllLines(index.toPath(), StandardCharsets.UTF_8)) {
+            this.files.put(ExportContainer.getEntry(file), file);
+            this.generation = Math.max(this.generation, ExportContainer.getGeneration(file));
+        }
+    }
+
+    /**
+     * Method responsible for exporting the Diagrams Entries.
+     * @param  folder Container Folder.
+     * @param  index Container Index.
+     * @throws IOException Exception to write the Container.
+     */
+    private void exportDiagrams(File folder, List<String> index) throws IOException {
+        List<Diagram> diagrams = new ArrayList<>(this.project.getFeatureDiagramsList());
+                      diagrams.addAll(this.project.getUMLDiagramsList());
+        for (Diagram diagram : diagrams) {
+            String entry = ExportContainer.getEntry(diagram);
+            String hash  = diagram.getHash();
+            if (!hash.equals(this.hashes.get(entry))) {
+                StringBuilder export = new StringBuilder();
+                diagram.export(export);
+                this.write(folder, entry, export.toString().getBytes(StandardCharsets.UTF_8));
+                this.hashes.put(entry, hash);
+            }
+            index.add(this.files.get(entry));
+        }
+    }
+
+    /**
+     * Method responsible for exporting a Project Section Entry.
+     * The Section is exported once and written only when the Hash of the Export differs from the saved one.
+     * @param  folder Container Folder.
+     * @param  index Container Index.
+     * @param  section Project Section.
+     * @throws IOException Exception to write the Container.
+     */
+    private void exportSection(File folder, List<String> index, String section) throws IOException {
+        String entry = section + ".xml";
+        StringBuilder export = new StringBuilder();
+        this.project.export(section, export);
+        String hash  = new FunctString().md5(export.toString());
+        if (!hash.equals(this.hashes.get(entry))) {
+            this.write(folder, entry, export.toString().getBytes(StandardCharsets.UTF_8));
+            this.hashes.put(entry, hash);
+        }
+        index.add(this.files.get(entry));
+    }
+
+    /**
+     * Method responsible for writing a Entry in a File of the current Save Generation.
+     * A Entry not saved by this Container is compared with its File first, so a Container opened again does not rewrite its unchanged Entries.
+     * @param  folder Container Folder.
+     * @param  entry Entry Name.
+     * @param  bytes Entry Content.
+     * @throws IOException Exception to write the Entry.
+     */
+    private void write(File folder, String entry, byte[] bytes) throws IOException {
+        String previous = this.files.get(entry);
+        if (!this.hashes.containsKey(entry) && (previous != null)) {
+            File file = new File(folder, previous);
+            if (file.isFile() && Arrays.equals(Files.readAllBytes(file.toPath()), bytes))
+                return;
+        }
+        String file = entry.substring(0, entry.length() - 4) + "." + this.generation + ".xml";
+        Files.write(new File(folder, file).toPath(), bytes);
+        this.files.put(entry, file);
+        this.written.add(entry);
+    }
+
+    /**
+     * Method responsible for writing the Index when it changed.
+     * The Index is written in a Temporary File and moved over the previous one.
+     * @param  folder Container Folder.
+     * @param  bytes Index Content.
+     * @throws IOException Exception to write the Index.
+     */
+    private void writeIndex(File folder, byte[] bytes) throws IOException {
+        File file = new File(folder, INDEX);
+        if (file.isFile() && Arrays.equals(Files.readAllBytes(file.toPath()), bytes))
+            return;
+        File temporary = new File(folder, INDEX + ".tmp");
+        Files.write(temporary.toPath(), bytes);
+        try {
+            Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        this.written.add(INDEX);
+    }
+
+    /**
+     * Method responsible for deleting the Files that are not in the Index.
+     * @param  folder Container Folder.
+     * @param  index Container Index.
+     * @throws IOException Exception to delete the Files.
+     */
+    private void delete(File folder, List<String> index) throws IOException {
+        File[]      files   = folder.listFiles();
+        Set<String> current = new HashSet<>(index);
+        if (files == null)
+            return;
+        for (File file : files) {
+            if (file.getName().endsWith(".xml") && !current.contains(file.getName()))
+                Files.delete(file.toPath());
+        }
+        Set<String> entries = new HashSet<>();
+        for (String file : index)
+            entries.add(ExportContainer.getEntry(file));
+        this.hashes.keySet().retainAll(entries);
+        this.files.keySet().retainAll(entries);
+    }
+}
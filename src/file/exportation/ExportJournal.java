@@ -0,0 +1,262 @@
+package file.exportation;
+
+import file.importation.ImportJournal;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import model.structural.base.Diagram;
+import model.structural.base.Project;
+
+/**
+ * <p>Class of File <b>ExportJournal</b>.</p>
+ * <p>Class responsible for <b>Exporting the Project Journal</b> in SMartyModeling.</p>
+ * <p>The Journal is a Append Only File of Records with the Entries of the Project Container. The Journal keeps the Content Hash of each Entry it appended, so each Save appends only the Entries whose Hash changed, followed by the Index Record that commits the Save, and forces them to the Disk, so its Cost follows the Edit and not the Project Size. When the Journal grows past twice its compacted Length it is compacted into a Snapshot with one Record for each current Entry.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    file.exportation.ExportContainer
+ * @see    file.importation.ImportJournal
+ */
+public class ExportJournal implements Closeable {
+    public static final String EXTENSION = ".journal";
+    public static final int    MAGIC     = 0x534D4A4C;
+    public static final int    VERSION   = 1;
+    public static final int    HEADER    = 8;
+    public static final long   MINIMUM   = 1 << 20;
+    private final Project project;
+    private final File file;
+    private final HashMap<String, byte[]> digests;
+    private final HashMap<String, String> hashes;
+    private final List<String> written;
+    private FileChannel channel;
+    private long compacted;
+
+    /**
+     * Default constructor method of Class.
+     * @param project Project.
+     */
+    public ExportJournal(Project project) {
+        this.project = project;
+        this.file    = ExportJournal.getFile(project.getPath());
+        this.digests = new HashMap<>();
+        this.hashes  = new HashMap<>();
+        this.written = new ArrayList<>();
+    }
+
+    /**
+     * Method responsible for returning the Journal File of a Project Path.
+     * @param  path Project Path.
+     * @return Journal File.
+     */
+    public static File getFile(String path) {
+        return new File(path + EXTENSION);
+    }
+
+    /**
+     * Method responsible for returning the Length of a Record.
+     * @param  name Entry Name.
+     * @param  content Entry Content.
+     * @return Record Length.
+     */
+    public static long getLength(byte[] name, byte[] content) {
+        return 12L + name.length + content.length;
+    }
+
+    /**
+     * Method responsible for returning the Entries appended by the last Save.
+     * @return Entries appended.
+     */
+    public List<String> getWritten() {
+        return new ArrayList<>(this.written);
+    }
+
+    /**
+     * Method responsible for opening the Journal.
+     * The Records of a existing Journal are read to know the saved Entries, and a Save cut by a Crash is truncated.
+     * @throws IOException Exception to open the Journal.
+     */
+    private void open() throws IOException {
+        if (this.channel != null)
+            return;
+        if (!this.file.isFile()) {
+            this.compact();
+            return;
+        }
+        Map<String, byte[]> entries = new HashMap<>();
+        long length = ImportJournal.read(this.file, entries);
+        for (Map.Entry<String, byte[]> entry : entries.entrySet())
+            this.digests.put(entry.getKey(), this.getDigest(entry.getValue()));
+        this.channel   = FileChannel.open(this.file.toPath(), StandardOpenOption.WRITE);
+        this.channel.truncate(length);
+        this.channel.position(length);
+        this.compacted = length;
+    }
+
+    /**
+     * Method responsible for appending the changed Entries to the Journal.
+     * @throws IOException Exception to write the Journal.
+     */
+    public void export() throws IOException {
+        this.written.clear();
+        this.open();
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        this.addEntries(entries, false);
+        this.append(entries);
+        this.project.setClean();
+        if ((this.channel.size() > MINIMUM) && (this.channel.size() > 2 * this.compacted))
+            this.compact();
+    }
+
+    /**
+     * Method responsible for adding the changed Entries, followed by the Index.
+     * The Sections are exported once and compared by the Digest of their Export. The Index is always added after changed Entries, since its Record commits the Save.
+     * @param entries Entries Map.
+     * @param all Flag to add all Entries.
+     * @throws IOException Exception to export the Entries.
+     */
+    private void addEntries(Map<String, byte[]> entries, boolean all) throws IOException {
+        List<String> index = new ArrayList<>();
+        for (String section : Project.SECTIONS) {
+            if (section.equals("diagrams"))
+                this.addDiagrams(entries, index, all);
+            else {
+                String entry = section + ".xml";
+                StringBuilder export = new StringBuilder();
+                this.project.export(section, export);
+                index.add(entry);
+                this.addEntry(entries, entry, export, all);
+            }
+        }
+        this.addEntry(entries, ExportContainer.INDEX, String.join("\n", index), all || !entries.isEmpty());
+    }
+
+    /**
+     * Method responsible for adding the changed Diagrams Entries.
+     * @param entries Entries Map.
+     * @param index Journal Index.
+     * @param all Flag to add all Entries.
+     * @throws IOException Exception to export the Diagrams.
+     */
+    private void addDiagrams(Map<String, byte[]> entries, List<String> index, boolean all) throws IOException {
+        List<Diagram> diagrams = new ArrayList<>(this.project.getFeatureDiagramsList());
+                      diagrams.addAll(this.project.getUMLDiagramsList());
+        for (Diagram diagram : diagrams) {
+            String entry = ExportContainer.getEntry(diagram);
+            String hash  = diagram.getHash();
+            index.add(entry);
+            if (all || !hash.equals(this.hashes.get(entry))) {
+                StringBuilder export = new StringBuilder();
+                diagram.export(export);
+                this.addEntry(entries, entry, export, all);
+                this.hashes.put(entry, hash);
+            }
+        }
+    }
+
+    /**
+     * Method responsible for adding a Entry when its Content changed.
+     * @param entries Entries Map.
+     * @param entry Entry Name.
+     * @param export Entry Content.
+     * @param all Flag to add all Entries.
+     */
+    private void addEntry(Map<String, byte[]> entries, String entry, CharSequence export, boolean all) {
+        byte[] bytes  = export.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] digest = this.getDigest(bytes);
+        if (all || !Arrays.equals(this.digests.get(entry), digest)) {
+            entries.put(entry, bytes);
+            this.digests.put(entry, digest);
+        }
+    }
+
+    /**
+     * Method responsible for appending the Records of the Entries and forcing them to the Disk.
+     * @param  entries Entries Map.
+     * @throws IOException Exception to write the Journal.
+     */
+    private void append(Map<String, byte[]> entries) throws IOException {
+        if (entries.isEmpty())
+            return;
+        long length = 0;
+        List<byte[]> names = new ArrayList<>();
+        for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+            names.add(entry.getKey().getBytes(StandardCharsets.UTF_8));
+            length += ExportJournal.getLength(names.get(names.size() - 1), entry.getValue());
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) length);
+        int        i      = 0;
+        for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+            byte[] name = names.get(i++);
+            buffer.putInt(name.length).put(name);
+            buffer.putInt(entry.getValue().length).put(entry.getValue());
+            buffer.putInt(ImportJournal.getChecksum(name, entry.getValue()));
+            this.written.add(entry.getKey());
+        }
+        buffer.flip();
+        while (buffer.hasRemaining())
+            this.channel.write(buffer);
+        this.channel.force(false);
+    }
+
+    /**
+     * Method responsible for compacting the Journal into a Snapshot of the current Entries.
+     * The Snapshot is written in a Temporary File and moved over the Journal.
+     * @throws IOException Exception to write the Journal.
+     */
+    public void compact() throws IOException {
+        this.close();
+        File temporary = new File(this.file.getPath() + ".tmp");
+        this.digests.clear();
+        this.channel = FileChannel.open(temporary.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(HEADER).putInt(MAGIC).putInt(VERSION);
+        header.flip();
+        this.channel.write(header);
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        this.addEntries(entries, true);
+        this.append(entries);
+        this.channel.close();
+        try {
+            Files.move(temporary.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(temporary.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        this.channel   = FileChannel.open(this.file.toPath(), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.compacted = this.channel.size();
+        this.project.setClean();
+    }
+
+    /**
+     * Method responsible for returning the Digest of a Entry Content.
+     * @param  bytes Entry Content.
+     * @return Content Digest.
+     */
+    private byte[] getDigest(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException exception) {
+            return bytes;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.channel != null) {
+            this.channel.close();
+            this.channel = null;
+        }
+    }
+}
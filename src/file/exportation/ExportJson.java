@@ -0,0 +1,217 @@
+package file.exportation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import model.structural.base.Project;
+
+/**
+ * <p>Class of File <b>ExportJson</b>.</p>
+ * <p>Class responsible for <b>Exporting the Project Json</b> in SMartyModeling.</p>
+ * <p>The Json is a Transliteration of the Project XML, not a Model of its own: the Project Export is rendered as XML and read back by a StAX Reader, and each Tag is written as a Json Object of the Shape <code>{"tag": name, "attributes": {name: value, ...}, "text": text, "children": [tag, ...]}</code>, in the Order of the XML. The <b>text</b> is written only for a Tag without Children and the <b>children</b> only for a Tag with Children. An Attribute Value that is a Json Number, such as a Position or a Size, is written as a Json Number, and any other Value as a Json String.</p>
+ * <p>The Sections and Diagrams are exported one at a time and streamed to the Json Output as they are read, so neither the Project Export nor a Tree of it is materialized.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    file.importation.ImportJson
+ */
+public class ExportJson {
+    public static final String EXTENSION = ".json";
+    private static final Pattern NUMBER  = Pattern.compile("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+    private final Project project;
+    private final List<Boolean> children;
+    private final StringBuilder text;
+
+    /**
+     * Default constructor method of Class.
+     * @param project Project.
+     */
+    public ExportJson(Project project) {
+        this.project  = project;
+        this.children = new ArrayList<>();
+        this.text     = new StringBuilder();
+    }
+
+    /**
+     * Method responsible for returning the Json File of a Project Path.
+     * @param  path Project Path.
+     * @return Json File.
+     */
+    public static File getFile(String path) {
+        return new File(path + EXTENSION);
+    }
+
+    /**
+     * Method responsible for exporting the Json next to the Project File.
+     * @throws IOException Exception to write the Json.
+     */
+    public void export() throws IOException {
+        this.export(ExportJson.getFile(this.project.getPath()));
+    }
+
+    /**
+     * Method responsible for exporting the Json to a File.
+     * @param  file Json File.
+     * @throws IOException Exception to write the Json.
+     */
+    public void export(File file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            this.export(writer);
+        }
+    }
+
+    /**
+     * Method responsible for exporting the Json to a Appendable.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Json.
+     */
+    public void export(Appendable appendable) throws IOException {
+        this.project.hydrateDiagrams();
+        this.children.clear();
+        try (InputStream input = new SequenceInputStream(new ExportParts(this.project))) {
+            XMLInputFactory factory = XMLInputFactory.newInstance();
+                            factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+            this.export(factory.createXMLStreamReader(input, StandardCharsets.UTF_8.name()), appendable);
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        } catch (XMLStreamException exception) {
+            throw new IOException(exception);
+        }
+    }
+
+    /**
+     * Method responsible for writing the Json of the Project Tags.
+     * @param  reader XML Stream Reader.
+     * @param  appendable Appendable Output.
+     * @throws XMLStreamException Exception to read the Tags.
+     * @throws IOException Exception to write the Json.
+     */
+    private void export(XMLStreamReader reader, Appendable appendable) throws XMLStreamException, IOException {
+        try {
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        this.start(reader, appendable);
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                        this.text.append(reader.getText());
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        this.end(appendable);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Method responsible for writing the Start of a Tag Object.
+     * @param  reader XML Stream Reader.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Json.
+     */
+    private void start(XMLStreamReader reader, Appendable appendable) throws IOException {
+        int parent = this.children.size() - 1;
+        if (parent >= 0) {
+            appendable.append(this.children.get(parent) ? "," : ",\"children\":[");
+            this.children.set(parent, true);
+        }
+        this.text.setLength(0);
+        this.children.add(false);
+        appendable.append("{\"tag\":");
+        this.append(reader.getLocalName(), appendable);
+        appendable.append(",\"attributes\":{");
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (i > 0)
+                appendable.append(",");
+            this.append(reader.getAttributeLocalName(i), appendable);
+            appendable.append(":");
+            this.appendValue(reader.getAttributeValue(i), appendable);
+        }
+        appendable.append("}");
+    }
+
+    /**
+     * Method responsible for writing the End of a Tag Object.
+     * The Text is written only for a Tag without Children, since the Text between Children is the Indentation.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Json.
+     */
+    private void end(Appendable appendable) throws IOException {
+        if (this.children.remove(this.children.size() - 1))
+            appendable.append("]");
+        else if (this.text.length() > 0) {
+            appendable.append(",\"text\":");
+            this.append(this.text, appendable);
+        }
+        this.text.setLength(0);
+        appendable.append("}");
+    }
+
+    /**
+     * Method responsible for writing a Attribute Value as a Json Number or a Json String.
+     * The Number is written with the same Text of the XML, so the Import reads back the same Value.
+     * @param  value Attribute Value.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Json.
+     */
+    private void appendValue(String value, Appendable appendable) throws IOException {
+        if (NUMBER.matcher(value).matches())
+            appendable.append(value);
+        else
+            this.append(value, appendable);
+    }
+
+    /**
+     * Method responsible for writing a Json String.
+     * @param  string String.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Json.
+     */
+    private void append(CharSequence string, Appendable appendable) throws IOException {
+        appendable.append('"');
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            switch (c) {
+                case '"':
+                    appendable.append("\\\"");
+                    break;
+                case '\\':
+                    appendable.append("\\\\");
+                    break;
+                case '\n':
+                    appendable.append("\\n");
+                    break;
+                case '\r':
+                    appendable.append("\\r");
+                    break;
+                case '\t':
+                    appendable.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20)
+                        appendable.append(String.format("\\u%04x", (int) c));
+                    else
+                        appendable.append(c);
+                    break;
+            }
+        }
+        appendable.append('"');
+    }
+}
@@ -0,0 +1,69 @@
+package file.exportation;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import model.structural.base.Diagram;
+import model.structural.base.Project;
+
+/**
+ * <p>Class of File <b>ExportParts</b>.</p>
+ * <p>Class responsible for <b>Exporting the Project Parts</b> on demand in SMartyModeling.</p>
+ * <p>Each Section and each Diagram is exported only when the Stream reaches it, followed by the End of the Project, so a Reader of the Parts never holds more than one Part of the Project Export.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    file.exportation.ExportJson
+ * @see    file.exportation.ExportSnapshot
+ */
+class ExportParts implements Enumeration<InputStream> {
+    private final Project project;
+    private final List<Object> parts;
+    private int position;
+
+    /**
+     * Default constructor method of Class.
+     * @param project Project.
+     */
+    public ExportParts(Project project) {
+        this.project  = project;
+        this.parts    = new ArrayList<>();
+        this.position = 0;
+        for (String section : Project.SECTIONS) {
+            if (section.equals("diagrams")) {
+                this.parts.addAll(project.getFeatureDiagramsList());
+                this.parts.addAll(project.getUMLDiagramsList());
+            }else
+                this.parts.add(section);
+        }
+    }
+
+    @Override
+    public boolean hasMoreElements() {
+        return this.position <= this.parts.size();
+    }
+
+    @Override
+    public InputStream nextElement() {
+        if (!this.hasMoreElements())
+            throw new NoSuchElementException();
+        StringBuilder export = new StringBuilder();
+        try {
+            if (this.position == this.parts.size())
+                export.append(ExportContainer.END);
+            else if (this.parts.get(this.position) instanceof Diagram)
+                ((Diagram) this.parts.get(this.position)).export(export);
+            else
+                this.project.export((String) this.parts.get(this.position), export);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        this.position++;
+        return new ByteArrayInputStream(export.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
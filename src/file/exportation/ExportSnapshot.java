@@ -0,0 +1,215 @@
+package file.exportation;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import model.structural.base.Project;
+
+/**
+ * <p>Class of File <b>ExportSnapshot</b>.</p>
+ * <p>Class responsible for <b>Exporting the Project Snapshot</b> in SMartyModeling.</p>
+ * <p>The Snapshot is a versioned Binary Form of the Project Export: every Id, Name and Type is written once in a String Table and then referenced by Index, and Integer Values are written as Varints. The Sections and Diagrams are exported one at a time and streamed to the Snapshot as they are read, so the Project Export is never materialized.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    file.importation.ImportSnapshot
+ * @see    model.structural.base.Project
+ */
+public class ExportSnapshot {
+    public static final int    MAGIC     = 0x534D5459;
+    public static final int    VERSION   = 1;
+    public static final String EXTENSION = ".snapshot";
+    public static final int    EOF       = 0;
+    public static final int    START     = 1;
+    public static final int    TEXT      = 2;
+    public static final int    END       = 3;
+    public static final int    STRING    = 0;
+    public static final int    INTEGER   = 1;
+    private final Project project;
+    private final HashMap<String, Integer> strings;
+    private DataOutputStream output;
+
+    /**
+     * Default constructor method of Class.
+     * @param project Project.
+     */
+    public ExportSnapshot(Project project) {
+        this.project = project;
+        this.strings = new HashMap<>();
+    }
+
+    /**
+     * Method responsible for returning the Snapshot File of a Project Path.
+     * @param  path Project Path.
+     * @return Snapshot File.
+     */
+    public static File getFile(String path) {
+        return new File(path + EXTENSION);
+    }
+
+    /**
+     * Method responsible for exporting the Snapshot next to the Project File.
+     * @throws IOException Exception to write the Snapshot.
+     */
+    public void export() throws IOException {
+        this.export(ExportSnapshot.getFile(this.project.getPath()));
+    }
+
+    /**
+     * Method responsible for exporting the Snapshot to a File.
+     * @param  file Snapshot File.
+     * @throws IOException Exception to write the Snapshot.
+     */
+    public void export(File file) throws IOException {
+        try (OutputStream stream = Files.newOutputStream(file.toPath())) {
+            this.export(stream);
+        }
+    }
+
+    /**
+     * Method responsible for exporting the Snapshot to a Output Stream.
+     * @param  stream Output Stream.
+     * @throws IOException Exception to write the Snapshot.
+     */
+    public void export(OutputStream stream) throws IOException {
+        this.project.hydrateDiagrams();
+        this.strings.clear();
+        this.output = new DataOutputStream(new BufferedOutputStream(stream));
+        this.output.writeInt(MAGIC);
+        this.writeVarint(VERSION);
+        try (InputStream input = new SequenceInputStream(new ExportParts(this.project))) {
+            XMLInputFactory factory = XMLInputFactory.newInstance();
+                            factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+            this.export(factory.createXMLStreamReader(input, StandardCharsets.UTF_8.name()));
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        } catch (XMLStreamException exception) {
+            throw new IOException(exception);
+        }
+        this.output.write(EOF);
+        this.output.flush();
+    }
+
+    /**
+     * Method responsible for exporting the Events of a XML Stream Reader.
+     * @param  reader XML Stream Reader.
+     * @throws IOException Exception to write the Snapshot.
+     * @throws XMLStreamException Exception to read the Export.
+     */
+    private void export(XMLStreamReader reader) throws IOException, XMLStreamException {
+        try {
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        this.exportStart(reader);
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                        this.output.write(TEXT);
+                        this.writeString(reader.getText());
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        this.output.write(END);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Method responsible for exporting the Start of a Tag.
+     * @param  reader XML Stream Reader.
+     * @throws IOException Exception to write the Snapshot.
+     */
+    private void exportStart(XMLStreamReader reader) throws IOException {
+        this.output.write(START);
+        this.writeString(reader.getLocalName());
+        this.writeVarint(reader.getAttributeCount());
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            this.writeString(reader.getAttributeLocalName(i));
+            this.writeValue(reader.getAttributeValue(i));
+        }
+    }
+
+    /**
+     * Method responsible for writing a Attribute Value.
+     * @param  value Attribute Value.
+     * @throws IOException Exception to write the Snapshot.
+     */
+    private void writeValue(String value) throws IOException {
+        if (this.isInteger(value)) {
+            int integer = Integer.parseInt(value);
+            this.output.write(INTEGER);
+            this.writeVarint((integer << 1) ^ (integer >> 31));
+        }else {
+            this.output.write(STRING);
+            this.writeString(value);
+        }
+    }
+
+    /**
+     * Method responsible for returning if a Value is a Integer written in the Canonical Form.
+     * @param  value Value.
+     * @return Value is a Canonical Integer.
+     */
+    private boolean isInteger(String value) {
+        if (value.isEmpty() || (value.length() > 11))
+            return false;
+        for (int i = value.startsWith("-") ? 1 : 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i)))
+                return false;
+        }
+        try {
+            return Integer.toString(Integer.parseInt(value)).equals(value);
+        } catch (NumberFormatException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Method responsible for writing a String by String Table Index.
+     * The Index 0 is followed by a new String, which receives the next Index.
+     * @param  string String.
+     * @throws IOException Exception to write the Snapshot.
+     */
+    private void writeString(String string) throws IOException {
+        Integer index = this.strings.get(string);
+        if (index != null) {
+            this.writeVarint(index);
+        }else {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            this.writeVarint(0);
+            this.writeVarint(bytes.length);
+            this.output.write(bytes);
+            this.strings.put(string, this.strings.size() + 1);
+        }
+    }
+
+    /**
+     * Method responsible for writing a Unsigned Varint.
+     * @param  value Value.
+     * @throws IOException Exception to write the Snapshot.
+     */
+    private void writeVarint(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            this.output.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.output.write(value);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,186 @@
+package file.exportation;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import model.structural.base.Diagram;
+import model.structural.base.Project;
+
+/**
+ * <p>Class of File <b>ExportZip</b>.</p>
+ * <p>Class responsible for <b>Exporting the Project Zip</b> in SMartyModeling.</p>
+ * <p>The Zip has the Entries of the Project Container: one Entry for each Project Section and for each Diagram, plus the Index. The Entries are exported concurrently on a Fork Join Pool and written in the Index Order.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    file.exportation.ExportContainer
+ * @see    file.importation.ImportZip
+ */
+public class ExportZip {
+    public static final String EXTENSION = ".zip";
+    private final Project project;
+    private final ForkJoinPool pool;
+
+    /**
+     * Default constructor method of Class.
+     * @param project Project.
+     */
+    public ExportZip(Project project) {
+        this(project, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Alternative constructor method of Class.
+     * @param project Project.
+     * @param pool Fork Join Pool.
+     */
+    public ExportZip(Project project, ForkJoinPool pool) {
+        this.project = project;
+        this.pool    = pool;
+    }
+
+    /**
+     * Method responsible for returning the Zip File of a Project Path.
+     * @param  path Project Path.
+     * @return Zip File.
+     */
+    public static File getFile(String path) {
+        return new File(path + EXTENSION);
+    }
+
+    /**
+     * Method responsible for exporting the Zip next to the Project File.
+     * @throws IOException Exception to write the Zip.
+     */
+    public void export() throws IOException {
+        this.export(ExportZip.getFile(this.project.getPath()));
+    }
+
+    /**
+     * Method responsible for exporting the Zip to a File.
+     * @param  file Zip File.
+     * @throws IOException Exception to write the Zip.
+     */
+    public void export(File file) throws IOException {
+        try (OutputStream stream = Files.newOutputStream(file.toPath())) {
+            this.export(stream);
+        }
+    }
+
+    /**
+     * Method responsible for exporting the Zip to a Output Stream.
+     * The Diagram Handles are materialized before the Tasks, so the Model is only read concurrently.
+     * @param  stream Output Stream.
+     * @throws IOException Exception to write the Zip.
+     */
+    public void export(OutputStream stream) throws IOException {
+        this.project.hydrateDiagrams();
+        List<String> index = new ArrayList<>();
+        List<Entry>  tasks = new ArrayList<>();
+        for (String section : Project.SECTIONS) {
+            if (section.equals("diagrams"))
+                this.addDiagrams(index, tasks);
+            else {
+                index.add(section + ".xml");
+                tasks.add(new Entry(this.project, section, null));
+            }
+        }
+        List<Future<byte[]>> entries = this.pool.invokeAll(tasks);
+        ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(stream));
+        for (int i = 0; i < index.size(); i++)
+            this.write(zip, index.get(i), this.get(entries.get(i)));
+        this.write(zip, ExportContainer.INDEX, String.join("\n", index).getBytes(StandardCharsets.UTF_8));
+        zip.finish();
+        zip.flush();
+        this.project.setClean();
+    }
+
+    /**
+     * Method responsible for adding the Diagrams Tasks in the Export Order.
+     * @param index Zip Index.
+     * @param tasks Export Tasks.
+     */
+    private void addDiagrams(List<String> index, List<Entry> tasks) {
+        List<Diagram> diagrams = new ArrayList<>(this.project.getFeatureDiagramsList());
+                      diagrams.addAll(this.project.getUMLDiagramsList());
+        for (Diagram diagram : diagrams) {
+            index.add(ExportContainer.getEntry(diagram));
+            tasks.add(new Entry(this.project, null, diagram));
+        }
+    }
+
+    /**
+     * Method responsible for returning the Content of a Export Task.
+     * @param  future Export Task Future.
+     * @return Entry Content.
+     * @throws IOException Exception to export the Entry.
+     */
+    private byte[] get(Future<byte[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Zip Export interrupted");
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof IOException)
+                throw (IOException) exception.getCause();
+            throw new IOException(exception.getCause());
+        }
+    }
+
+    /**
+     * Method responsible for writing a Zip Entry.
+     * @param  zip Zip Output Stream.
+     * @param  name Entry Name.
+     * @param  bytes Entry Content.
+     * @throws IOException Exception to write the Entry.
+     */
+    private void write(ZipOutputStream zip, String name, byte[] bytes) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(bytes);
+        zip.closeEntry();
+    }
+
+    /**
+     * <p>Class of File <b>Entry</b>.</p>
+     * <p>Class responsible for <b>Exporting a Project Section or a Diagram</b> in a Fork Join Pool Task.</p>
+     */
+    private static class Entry implements Callable<byte[]> {
+        private final Project project;
+        private final String  section;
+        private final Diagram diagram;
+
+        /**
+         * Default constructor method of Class.
+         * @param project Project.
+         * @param section Project Section.
+         * @param diagram Diagram.
+         */
+        public Entry(Project project, String section, Diagram diagram) {
+            this.project = project;
+            this.section = section;
+            this.diagram = diagram;
+        }
+
+        @Override
+        public byte[] call() throws IOException {
+            StringBuilder export = new StringBuilder();
+            if (this.diagram != null)
+                this.diagram.export(export);
+            else
+                this.project.export(this.section, export);
+            return export.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
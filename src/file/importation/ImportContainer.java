@@ -0,0 +1,104 @@
+package file.importation;
+
+import file.exportation.ExportContainer;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import javax.xml.stream.XMLStreamException;
+import model.structural.base.Project;
+
+/**
+ * <p>Class of File <b>ImportContainer</b>.</p>
+ * <p>Class responsible for <b>Importing the Project Container</b> in SMartyModeling.</p>
+ * <p>The Entries are read in the Index Order and streamed to the Project Import as a single Project Export.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    file.exportation.ExportContainer
+ * @see    file.importation.ImportProject
+ */
+public class ImportContainer {
+    private final String path;
+
+    /**
+     * Default constructor method of Class.
+     * @param path Project Path.
+     */
+    public ImportContainer(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Method responsible for returning if the Project has a Container.
+     * @return Project has a Container.
+     */
+    public boolean hasContainer() {
+        return new File(ExportContainer.getFolder(this.path), ExportContainer.INDEX).isFile();
+    }
+
+    /**
+     * Method responsible for importing the Project from the Container next to the Project File.
+     * @return Project imported.
+     * @throws IOException Exception to read the Container.
+     */
+    public Project importProject() throws IOException {
+        File         folder = ExportContainer.getFolder(this.path);
+        List<String> index  = Files.readAllLines(new File(folder, ExportContainer.INDEX).toPath(), StandardCharsets.UTF_8);
+        try (InputStream input = new SequenceInputStream(new Entries(folder, index))) {
+            return new ImportProject(this.path).importProject(input);
+        } catch (XMLStreamException exception) {
+            throw new IOException(exception);
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * <p>Class of File <b>Entries</b>.</p>
+     * <p>Class responsible for opening the <b>Container Entries</b> one at a time, followed by the Project End Tag.</p>
+     */
+    private static class Entries implements Enumeration<InputStream> {
+        private final File folder;
+        private final List<String> index;
+        private int position;
+
+        /**
+         * Default constructor method of Class.
+         * @param folder Container Folder.
+         * @param index Container Index.
+         */
+        public Entries(File folder, List<String> index) {
+            this.folder   = folder;
+            this.index    = index;
+            this.position = 0;
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            return this.position <= this.index.size();
+        }
+
+        @Override
+        public InputStream nextElement() {
+            if (!this.hasMoreElements())
+                throw new NoSuchElementException();
+            if (this.position == this.index.size()) {
+                this.position++;
+                return new ByteArrayInputStream(ExportContainer.END.getBytes(StandardCharsets.UTF_8));
+            }
+            File file = new File(this.folder, this.index.get(this.position++));
+            try {
+                return Files.newInputStream(file.toPath());
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package file.importation;
+
+import file.exportation.ExportContainer;
+import file.exportation.ExportJournal;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import javax.xml.stream.XMLStreamException;
+import model.structural.base.Project;
+
+/**
+ * <p>Class of File <b>ImportJournal</b>.</p>
+ * <p>Class responsible for <b>Importing the Project Journal</b> in SMartyModeling.</p>
+ * <p>The Journal Records are replayed in Order, so the last Record of each Entry wins. Each Save ends with the Record of the Index, so the Records of a Save are applied only when its Index Record is read. A Record cut by a Crash is detected by its Length or Checksum and ignored with the Records after it, and a Save without its Index Record is ignored as a whole.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    file.exportation.ExportJournal
+ * @see    file.importation.ImportProject
+ */
+public class ImportJournal {
+    private final String path;
+
+    /**
+     * Default constructor method of Class.
+     * @param path Project Path.
+     */
+    public ImportJournal(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Method responsible for returning if the Project has a Journal.
+     * @return Project has a Journal.
+     */
+    public boolean hasJournal() {
+        return ExportJournal.getFile(this.path).isFile();
+    }
+
+    /**
+     * Method responsible for importing the Project from the Journal next to the Project File.
+     * @return Project imported.
+     * @throws IOException Exception to read the Journal.
+     */
+    public Project importProject() throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        ImportJournal.read(ExportJournal.getFile(this.path), entries);
+        List<InputStream>   streams = new ArrayList<>();
+        for (String entry : ImportJournal.getIndex(entries)) {
+            byte[] bytes = entries.get(entry);
+            if (bytes == null)
+                throw new IOException("Invalid Project Journal: Entry " + entry + " not found");
+            streams.add(new ByteArrayInputStream(bytes));
+        }
+        streams.add(new ByteArrayInputStream(ExportContainer.END.getBytes(StandardCharsets.UTF_8)));
+        try (InputStream input = new SequenceInputStream(Collections.enumeration(streams))) {
+            return new ImportProject(this.path).importProject(input);
+        } catch (XMLStreamException exception) {
+            throw new IOException(exception);
+        }
+    }
+
+    /**
+     * Method responsible for returning the Index of the Journal Entries.
+     * @param  entries Journal Entries.
+     * @return Entries Names in the Export Order.
+     * @throws IOException Exception of a Journal without Index.
+     */
+    public static List<String> getIndex(Map<String, byte[]> entries) throws IOException {
+        byte[] index = entries.get(ExportContainer.INDEX);
+        if (index == null)
+            throw new IOException("Invalid Project Journal: Index not found");
+        String string = new String(index, StandardCharsets.UTF_8);
+        List<String> list = new ArrayList<>();
+        if (!string.isEmpty())
+            Collections.addAll(list, string.split("\n"));
+        return list;
+    }
+
+    /**
+     * Method responsible for reading the Records of a Journal File.
+     * The Records of a Save are kept apart until the Index Record that ends the Save.
+     * @param  file Journal File.
+     * @param  entries Journal Entries, updated by each complete Save.
+     * @return Length of the complete Saves.
+     * @throws IOException Exception to read the Journal.
+     */
+    public static long read(File file, Map<String, byte[]> entries) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if ((input.readInt() != ExportJournal.MAGIC) || (input.readInt() != ExportJournal.VERSION))
+                throw new IOException("Invalid Project Journal");
+            Map<String, byte[]> pending = new LinkedHashMap<>();
+            long length    = ExportJournal.HEADER;
+            long committed = length;
+            try {
+                while (true) {
+                    byte[] name    = ImportJournal.read(input, file.length() - length);
+                    byte[] content = ImportJournal.read(input, file.length() - length - name.length);
+                    int    check   = input.readInt();
+                    if (check != ImportJournal.getChecksum(name, content))
+                        break;
+                    String entry = new String(name, StandardCharsets.UTF_8);
+                    pending.put(entry, content);
+                    length += ExportJournal.getLength(name, content);
+                    if (entry.equals(ExportContainer.INDEX)) {
+                        entries.putAll(pending);
+                        pending.clear();
+                        committed = length;
+                    }
+                }
+            } catch (EOFException exception) {}
+            return committed;
+        }
+    }
+
+    /**
+     * Method responsible for reading a Record Field.
+     * @param  input Data Input Stream.
+     * @param  remaining Remaining Bytes of the File.
+     * @return Field Bytes.
+     * @throws IOException Exception to read the Field, or EOFException for a Field cut by a Crash.
+     */
+    private static byte[] read(DataInputStream input, long remaining) throws IOException {
+        int length = input.readInt();
+        if ((length < 0) || (length > remaining))
+            throw new EOFException("Invalid Record Length");
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Method responsible for returning the Checksum of a Record.
+     * @param  name Entry Name.
+     * @param  content Entry Content.
+     * @return Record Checksum.
+     */
+    public static int getChecksum(byte[] name, byte[] content) {
+        CRC32 crc = new CRC32();
+              crc.update(name);
+              crc.update(content);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,320 @@
+package file.importation;
+
+import file.exportation.ExportJson;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import model.structural.base.Project;
+
+/**
+ * <p>Class of File <b>ImportJson</b>.</p>
+ * <p>Class responsible for <b>Importing the Project Json</b> in SMartyModeling.</p>
+ * <p>The Json is read by a Streaming Parser: each Tag Object is replayed on the Project Import as soon as its <b>tag</b> and <b>attributes</b> are read, before its <b>children</b>, so no Tree of the Json is materialized. A Json Number of the <b>attributes</b> is set with its Literal Text, the same Text of the XML Attribute.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    file.exportation.ExportJson
+ * @see    file.importation.ImportProject
+ */
+public class ImportJson {
+    private final String path;
+    private ImportProject importProject;
+    private org.w3c.dom.Document document;
+    private Reader reader;
+    private int current;
+
+    /**
+     * Default constructor method of Class.
+     * @param path Project Path.
+     */
+    public ImportJson(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Method responsible for returning if the Project has a Json.
+     * @return Project has a Json.
+     */
+    public boolean hasJson() {
+        return ExportJson.getFile(this.path).isFile();
+    }
+
+    /**
+     * Method responsible for importing the Project from the Json next to the Project File.
+     * @return Project imported.
+     * @throws IOException Exception to read the Json.
+     */
+    public Project importProject() throws IOException {
+        return this.importProject(ExportJson.getFile(this.path));
+    }
+
+    /**
+     * Method responsible for importing the Project from a Json File.
+     * @param  file Json File.
+     * @return Project imported.
+     * @throws IOException Exception to read the Json.
+     */
+    public Project importProject(File file) throws IOException {
+        try (Reader input = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            return this.importProject(input);
+        }
+    }
+
+    /**
+     * Method responsible for importing the Project from a Json Reader.
+     * @param  input Json Reader.
+     * @return Project imported.
+     * @throws IOException Exception to read the Json.
+     */
+    public Project importProject(Reader input) throws IOException {
+        try {
+            this.document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        } catch (ParserConfigurationException exception) {
+            throw new IOException(exception);
+        }
+        this.importProject = new ImportProject(this.path);
+        this.reader        = (input instanceof BufferedReader) ? input : new BufferedReader(input);
+        this.current       = this.reader.read();
+        this.readTag();
+        this.skipSpaces();
+        if (this.current >= 0)
+            throw this.error("End of Json expected");
+        return this.importProject.finish();
+    }
+
+    /**
+     * Method responsible for reading a Tag Object and replaying it on the Project Import.
+     * @throws IOException Exception to read the Tag.
+     */
+    private void readTag() throws IOException {
+        String              tag     = null;
+        org.w3c.dom.Element element = null;
+        String              text    = null;
+        this.expect('{');
+        if (!this.next('}')) {
+            do {
+                String key = this.readString();
+                this.expect(':');
+                switch (key) {
+                    case "tag":
+                        tag     = this.readString();
+                        element = this.document.createElement(tag);
+                        break;
+                    case "attributes":
+                        this.readAttributes(element);
+                        break;
+                    case "text":
+                        text    = this.readString();
+                        break;
+                    case "children":
+                        this.readChildren(tag, element);
+                        element = null;
+                        break;
+                    default:
+                        this.skipValue();
+                        break;
+                }
+            } while (this.next(','));
+            this.expect('}');
+        }
+        if (tag == null)
+            throw this.error("Tag expected");
+        if (element != null)
+            this.importProject.start(tag, element);
+        if (text != null)
+            this.importProject.characters(text);
+        this.importProject.end(tag);
+    }
+
+    /**
+     * Method responsible for reading the Attributes of a Tag Object.
+     * @param  element W3C Element of the Tag.
+     * @throws IOException Exception to read the Attributes.
+     */
+    private void readAttributes(org.w3c.dom.Element element) throws IOException {
+        if (element == null)
+            throw this.error("Tag expected before Attributes");
+        this.expect('{');
+        if (this.next('}'))
+            return;
+        do {
+            String name  = this.readString();
+            this.expect(':');
+            String value = this.readValue();
+            if (value != null)
+                element.setAttribute(name, value);
+        } while (this.next(','));
+        this.expect('}');
+    }
+
+    /**
+     * Method responsible for starting a Tag and reading its Children.
+     * @param  tag Tag Name.
+     * @param  element W3C Element of the Tag.
+     * @throws IOException Exception to read the Children.
+     */
+    private void readChildren(String tag, org.w3c.dom.Element element) throws IOException {
+        if (element == null)
+            throw this.error("Tag expected before Children");
+        this.importProject.start(tag, element);
+        this.expect('[');
+        if (this.next(']'))
+            return;
+        do {
+            this.readTag();
+        } while (this.next(','));
+        this.expect(']');
+    }
+
+    /**
+     * Method responsible for reading a String or a Literal Value.
+     * @return Value read, or null for the null Literal.
+     * @throws IOException Exception to read the Value.
+     */
+    private String readValue() throws IOException {
+        this.skipSpaces();
+        if (this.current == '"')
+            return this.readString();
+        StringBuilder literal = new StringBuilder();
+        while ((this.current >= 0) && (",}] \t\r\n".indexOf(this.current) < 0)) {
+            literal.append((char) this.current);
+            this.current = this.reader.read();
+        }
+        if (literal.length() == 0)
+            throw this.error("Value expected");
+        return literal.toString().equals("null") ? null : literal.toString();
+    }
+
+    /**
+     * Method responsible for skipping a Value of a unknown Key.
+     * @throws IOException Exception to read the Value.
+     */
+    private void skipValue() throws IOException {
+        this.skipSpaces();
+        if ((this.current == '{') || (this.current == '[')) {
+            char close = (this.current == '{') ? '}' : ']';
+            this.current = this.reader.read();
+            if (this.next(close))
+                return;
+            do {
+                if (close == '}') {
+                    this.readString();
+                    this.expect(':');
+                }
+                this.skipValue();
+            } while (this.next(','));
+            this.expect(close);
+        }else
+            this.readValue();
+    }
+
+    /**
+     * Method responsible for reading a Json String.
+     * @return String read.
+     * @throws IOException Exception to read the String.
+     */
+    private String readString() throws IOException {
+        this.expect('"');
+        StringBuilder string = new StringBuilder();
+        while (this.current != '"') {
+            if (this.current < 0)
+                throw this.error("Unterminated String");
+            if (this.current == '\\') {
+                this.current = this.reader.read();
+                switch (this.current) {
+                    case 'n':
+                        string.append('\n');
+                        break;
+                    case 'r':
+                        string.append('\r');
+                        break;
+                    case 't':
+                        string.append('\t');
+                        break;
+                    case 'b':
+                        string.append('\b');
+                        break;
+                    case 'f':
+                        string.append('\f');
+                        break;
+                    case 'u':
+                        string.append(this.readUnicode());
+                        break;
+                    case '"':
+                    case '\\':
+                    case '/':
+                        string.append((char) this.current);
+                        break;
+                    default:
+                        throw this.error("Invalid Escape");
+                }
+            }else
+                string.append((char) this.current);
+            this.current = this.reader.read();
+        }
+        this.current = this.reader.read();
+        return string.toString();
+    }
+
+    /**
+     * Method responsible for reading the Hexadecimal Digits of a Unicode Escape.
+     * @return Unicode Char.
+     * @throws IOException Exception to read the Escape.
+     */
+    private char readUnicode() throws IOException {
+        int code = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(this.reader.read(), 16);
+            if (digit < 0)
+                throw this.error("Invalid Unicode Escape");
+            code = (code << 4) + digit;
+        }
+        return (char) code;
+    }
+
+    /**
+     * Method responsible for skipping the White Spaces.
+     * @throws IOException Exception to read the Json.
+     */
+    private void skipSpaces() throws IOException {
+        while ((this.current == ' ') || (this.current == '\n') || (this.current == '\r') || (this.current == '\t'))
+            this.current = this.reader.read();
+    }
+
+    /**
+     * Method responsible for consuming the Next Char if it is the Expected Char.
+     * @param  expected Expected Char.
+     * @return Next Char consumed.
+     * @throws IOException Exception to read the Json.
+     */
+    private boolean next(char expected) throws IOException {
+        this.skipSpaces();
+        if (this.current != expected)
+            return false;
+        this.current = this.reader.read();
+        return true;
+    }
+
+    /**
+     * Method responsible for consuming the Expected Char.
+     * @param  expected Expected Char.
+     * @throws IOException Exception of a different Char.
+     */
+    private void expect(char expected) throws IOException {
+        if (!this.next(expected))
+            throw this.error("'" + expected + "' expected");
+    }
+
+    /**
+     * Method responsible for returning a Json Syntax Exception.
+     * @param  message Exception Message.
+     * @return Json Syntax Exception.
+     */
+    private IOException error(String message) {
+        return new IOException("Invalid Project Json: " + message);
+    }
+}
@@ -0,0 +1,1337 @@
+package file.importation;
+
+import com.mxgraph.util.mxPoint;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import model.structural.base.Diagram;
+import model.structural.base.DiagramHandle;
+import model.structural.base.Element;
+import model.structural.base.Profile;
+import model.structural.base.Project;
+import model.structural.base.Stereotype;
+import model.structural.base.association.Association;
+import model.structural.base.association.Dependency;
+import model.structural.base.association.Generalization;
+import model.structural.base.association.Link;
+import model.structural.base.evaluation.Measure;
+import model.structural.base.evaluation.Metric;
+import model.structural.base.interfaces.Hydrator;
+import model.structural.base.product.Artifact;
+import model.structural.base.product.Instance;
+import model.structural.base.product.Product;
+import model.structural.base.product.Relationship;
+import model.structural.base.requirement.Requirement;
+import model.structural.base.traceability.Traceability;
+import model.structural.base.variability.Mutex;
+import model.structural.base.variability.Requires;
+import model.structural.base.variability.Variability;
+import model.structural.diagram.ActivityDiagram;
+import model.structural.diagram.ClassDiagram;
+import model.structural.diagram.ComponentDiagram;
+import model.structural.diagram.FeatureDiagram;
+import model.structural.diagram.SequenceDiagram;
+import model.structural.diagram.UseCaseDiagram;
+import model.structural.diagram.activity.base.ActivityUML;
+import model.structural.diagram.activity.base.DecisionUML;
+import model.structural.diagram.activity.base.FinalUML;
+import model.structural.diagram.activity.base.InitialUML;
+import model.structural.diagram.activity.base.association.FlowUML;
+import model.structural.diagram.classes.Entity;
+import model.structural.diagram.classes.base.AttributeUML;
+import model.structural.diagram.classes.base.ClassUML;
+import model.structural.diagram.classes.base.MethodUML;
+import model.structural.diagram.classes.base.PackageUML;
+import model.structural.diagram.classes.base.ParameterUML;
+import model.structural.diagram.classes.base.TypeUML;
+import model.structural.diagram.classes.base.association.Abstraction;
+import model.structural.diagram.classes.base.association.AssociationUML;
+import model.structural.diagram.classes.base.association.RealizationUML;
+import model.structural.diagram.classes.base.association.Usage;
+import model.structural.diagram.component.base.ComponentUML;
+import model.structural.diagram.component.base.association.ComunicationUML;
+import model.structural.diagram.feature.base.Feature;
+import model.structural.diagram.feature.base.association.Combination;
+import model.structural.diagram.feature.base.association.Connection;
+import model.structural.diagram.sequence.base.InstanceUML;
+import model.structural.diagram.sequence.base.LifelineUML;
+import model.structural.diagram.sequence.base.association.MessageUML;
+import model.structural.diagram.usecase.base.ActorUML;
+import model.structural.diagram.usecase.base.UseCaseUML;
+import model.structural.diagram.usecase.base.association.CommunicationUML;
+import model.structural.diagram.usecase.base.association.ExtendUML;
+import model.structural.diagram.usecase.base.association.IncludeUML;
+
+/**
+ * <p>Class of File <b>ImportProject</b>.</p>
+ * <p>Class responsible for <b>Importing the Project</b> from a Stream of XML Events in SMartyModeling.</p>
+ * <p>Each Tag is read by a StAX Reader and copied to a detached W3C Element, so the Model Constructors are reused without holding the Document Tree.</p>
+ * <p>In Lazy Mode the Diagrams are read as Handles and materialized by a new Stream of the File on the first access.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    javax.xml.stream.XMLStreamReader
+ * @see    model.structural.base.Project
+ */
+public class ImportProject implements Hydrator {
+    private final String path;
+    private final boolean lazy;
+    private final Set<String> targets;
+    private final List<Reference> references;
+    private final List<Reference> fileLinks;
+    private final List<Reference> fileElements;
+    private final List<Object> fileProducts;
+    private final List<Reference> variationPoints;
+    private final List<Reference> variants;
+    private final HashMap<String, TypeUML> types;
+    private final StringBuilder text;
+    private DiagramHandle handle;
+    private Set<Object> links;
+    private int depth;
+    private org.w3c.dom.Document document;
+    private Project project;
+    private Diagram diagram;
+    private Entity entity;
+    private MethodUML method;
+    private Association association;
+    private String associationTag;
+    private Variability variability;
+    private model.structural.diagram.feature.base.Variability featureVariability;
+    private Requirement requirement;
+    private Traceability traceability;
+    private Metric metric;
+    private Product product;
+    private Instance instance;
+    private Relationship relationship;
+
+    /**
+     * Default constructor method of Class.
+     * @param path Project Path.
+     */
+    public ImportProject(String path) {
+        this(path, false);
+    }
+
+    /**
+     * Alternative constructor method of Class.
+     * @param path Project Path.
+     * @param lazy Lazy Mode Flag.
+     */
+    public ImportProject(String path, boolean lazy) {
+        this.path         = path;
+        this.lazy         = lazy;
+        this.targets      = null;
+        this.references   = new ArrayList<>();
+        this.fileLinks    = new ArrayList<>();
+        this.fileElements = new ArrayList<>();
+        this.fileProducts = new ArrayList<>();
+        this.variationPoints = new ArrayList<>();
+        this.variants        = new ArrayList<>();
+        this.types        = new HashMap<>();
+        this.text         = new StringBuilder();
+    }
+
+    /**
+     * Alternative constructor method of Class.
+     * @param importProject Lazy Project Import.
+     * @param targets Ids of the Diagrams to materialize.
+     */
+    private ImportProject(ImportProject importProject, Set<String> targets) {
+        this.path         = importProject.path;
+        this.lazy         = false;
+        this.targets      = targets;
+        this.references   = new ArrayList<>();
+        this.fileLinks    = importProject.fileLinks;
+        this.fileElements = importProject.fileElements;
+        this.fileProducts = new ArrayList<>();
+        this.variationPoints = new ArrayList<>();
+        this.variants        = new ArrayList<>();
+        this.types        = importProject.types;
+        this.text         = new StringBuilder();
+        this.project      = importProject.project;
+    }
+
+    /**
+     * Method responsible for importing the Project.
+     * @return Project imported.
+     * @throws IOException Exception to read the File.
+     * @throws XMLStreamException Exception to parse the File.
+     */
+    public Project importProject() throws IOException, XMLStreamException {
+        try (InputStream input = Files.newInputStream(new File(this.path).toPath())) {
+            return this.importProject(input);
+        }
+    }
+
+    /**
+     * Method responsible for importing the Project from a Input Stream.
+     * @param  input Input Stream.
+     * @return Project imported.
+     * @throws XMLStreamException Exception to parse the Stream.
+     */
+    public Project importProject(InputStream input) throws XMLStreamException {
+        XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(input);
+        try {
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        this.start(reader.getLocalName(), this.getElement(reader));
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                        this.characters(reader.getText());
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        this.end(reader.getLocalName());
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return this.finish();
+    }
+
+    /**
+     * Method responsible for returning a new W3C Document.
+     * @return New W3C Document.
+     * @throws XMLStreamException Exception to create the Document.
+     */
+    private org.w3c.dom.Document newDocument() throws XMLStreamException {
+        try {
+            return DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        } catch (ParserConfigurationException exception) {
+            throw new XMLStreamException(exception);
+        }
+    }
+
+    /**
+     * Method responsible for returning a new detached W3C Element.
+     * @param  tag Tag Name.
+     * @return Detached W3C Element.
+     * @throws XMLStreamException Exception to create the Document.
+     */
+    org.w3c.dom.Element newElement(String tag) throws XMLStreamException {
+        if (this.document == null)
+            this.document = this.newDocument();
+        return this.document.createElement(tag);
+    }
+
+    /**
+     * Method responsible for returning a detached W3C Element of the Current Tag.
+     * @param  reader XML Stream Reader.
+     * @return Detached W3C Element.
+     */
+    private org.w3c.dom.Element getElement(XMLStreamReader reader) throws XMLStreamException {
+        org.w3c.dom.Element element = this.newElement(reader.getLocalName());
+        for (int i = 0; i < reader.getAttributeCount(); i++)
+            element.setAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+        return element;
+    }
+
+    /**
+     * Method responsible for handling the Start of a Tag.
+     * @param tag Tag Name.
+     * @param element W3C Element.
+     */
+    void start(String tag, org.w3c.dom.Element element) {
+        this.text.setLength(0);
+        if (this.skip(tag, element))
+            return;
+        switch (tag) {
+            case "project":
+                this.project = new Project(this.path, element);
+                if (this.lazy)
+                    this.project.setHydrator(this);
+                break;
+            case "type":
+                this.addType(new TypeUML(element));
+                break;
+            case "stereotype":
+                this.project.addDefaultStereotype(new Stereotype(element));
+                break;
+            case "profile":
+                this.project.setProfile(this.getProfile(element));
+                break;
+            case "diagram":
+                this.startDiagram(element);
+                break;
+            case "requirement":
+                this.requirement = new Requirement(element);
+                this.project.addRequirement(this.requirement);
+                break;
+            case "traceability":
+                this.traceability = new Traceability(element);
+                this.project.addTraceability(this.traceability);
+                break;
+            case "links":
+                this.project.setLinks(new HashMap<>());
+                break;
+            case "link":
+                this.addLink(element);
+                break;
+            case "product":
+                this.product = new Product(element);
+                this.project.addProduct(this.product);
+                if (this.lazy)
+                    this.fileProducts.add(this.product);
+                break;
+            case "metric":
+                this.metric = new Metric(element);
+                this.project.addMetric(this.metric);
+                break;
+            case "measure":
+                this.addMeasure(element);
+                break;
+            default:
+                this.startInner(tag, element);
+                break;
+        }
+    }
+
+    /**
+     * Method responsible for handling the Start of a Inner Tag.
+     * @param tag Tag Name.
+     * @param element W3C Element.
+     */
+    private void startInner(String tag, org.w3c.dom.Element element) {
+        if (tag.equals("element"))
+            this.addElement(element);
+        else if (this.lazy && (this.product != null))
+            this.fileProducts.add(element);
+        else if (tag.equals("point"))
+            this.addPoint(element);
+        else if (this.product != null)
+            this.startProduct(tag, element);
+        else if (this.diagram != null)
+            this.startDiagram(tag, element);
+    }
+
+    /**
+     * Method responsible for returning if the Start of a Tag is skipped.
+     * In Lazy Mode the Ids of a Diagram are recorded in its Handle. In Hydration only the Target Diagrams are read.
+     * @param  tag Tag Name.
+     * @param  element W3C Element.
+     * @return Start of Tag is skipped.
+     */
+    private boolean skip(String tag, org.w3c.dom.Element element) {
+        if (this.handle != null) {
+            this.depth++;
+            if (element.hasAttribute("id"))
+                this.handle.addId(element.getAttribute("id"), (this.depth == 1) && element.hasAttribute("x"));
+            return true;
+        }
+        if ((this.targets != null) && (this.diagram == null)) {
+            if (tag.equals("diagram") && this.targets.contains(element.getAttribute("id")))
+                this.startDiagram(element);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Method responsible for returning if the End of a Tag is skipped.
+     * @param  tag Tag Name.
+     * @return End of Tag is skipped.
+     */
+    private boolean skip(String tag) {
+        if (this.handle != null) {
+            if (this.depth == 0)
+                this.handle = null;
+            else
+                this.depth--;
+            return true;
+        }
+        return (this.targets != null) && (this.diagram == null);
+    }
+
+    /**
+     * Method responsible for handling the Text of a Tag.
+     * @param text Tag Text.
+     */
+    void characters(String text) {
+        this.text.append(text);
+    }
+
+    /**
+     * Method responsible for handling the End of a Tag.
+     * @param tag Tag Name.
+     */
+    void end(String tag) {
+        if (this.skip(tag))
+            return;
+        switch (tag) {
+            case "diagram":
+                this.endDiagram();
+                break;
+            case "description":
+                this.setDescription(this.text.toString());
+                break;
+            case "operation":
+                this.metric.setOperation(this.text.toString());
+                break;
+            case "requirement":
+                this.requirement = null;
+                break;
+            case "traceability":
+                this.traceability = null;
+                break;
+            case "metric":
+                this.metric = null;
+                break;
+            case "product":
+                this.product = null;
+                break;
+            case "instance":
+                this.instance = null;
+                break;
+            case "relationship":
+                this.relationship = null;
+                break;
+            case "class":
+            case "interface":
+                this.entity = null;
+                break;
+            case "method":
+                this.method = null;
+                break;
+            case "variability":
+                this.endVariability();
+                break;
+            default:
+                break;
+        }
+        if (tag.equals(this.associationTag))
+            this.endAssociation();
+    }
+
+    /**
+     * Method responsible for adding a Type.
+     * @param type UML Type.
+     */
+    private void addType(TypeUML type) {
+        this.project.addDefaultType(type);
+        this.types.put(type.getId(), type);
+    }
+
+    /**
+     * Method responsible for returning the Profile by W3C Element.
+     * @param  element W3C Element.
+     * @return Profile.
+     */
+    private Profile getProfile(org.w3c.dom.Element element) {
+        Profile profile = new Profile();
+                profile.setMandatory(this.project.getStereotype(element.getAttribute("mandatory")));
+                profile.setOptional(this.project.getStereotype(element.getAttribute("optional")));
+                profile.setVariationPoint(this.project.getStereotype(element.getAttribute("variationPoint")));
+                profile.setInclusive(this.project.getStereotype(element.getAttribute("inclusive")));
+                profile.setExclusive(this.project.getStereotype(element.getAttribute("exclusive")));
+                profile.setRequires(this.project.getStereotype(element.getAttribute("requires")));
+                profile.setMutex(this.project.getStereotype(element.getAttribute("mutex")));
+        return  profile;
+    }
+
+    /**
+     * Method responsible for starting a Diagram.
+     * @param element W3C Element.
+     */
+    private void startDiagram(org.w3c.dom.Element element) {
+        if (this.lazy) {
+            this.handle = new DiagramHandle(this.project, element);
+            this.depth  = 0;
+            this.project.addDiagram(this.handle);
+        }else if (this.targets != null) {
+            this.links   = new HashSet<>();
+            for (Object id : this.project.links.keySet())
+                this.links.add(id);
+            this.diagram = this.getDiagram(element);
+            this.project.setDiagram(this.diagram);
+        }else {
+            this.diagram = this.getDiagram(element);
+            this.project.addDiagram(this.diagram);
+        }
+    }
+
+    /**
+     * Method responsible for ending a Diagram.
+     * The Variabilities are resolved after the Diagram Elements. In Hydration the Links created by the Diagram are replaced by the Links read from the File.
+     */
+    private void endDiagram() {
+        this.resolveVariabilities();
+        if (this.targets != null) {
+            this.relink();
+            this.retrace();
+        }
+        this.diagram = null;
+    }
+
+    /**
+     * Method responsible for rebuilding the Links in the File Order.
+     * Links of loaded Elements come first, followed by the Links created after the Import.
+     */
+    private void relink() {
+        LinkedHashMap<Object, Link> links = new LinkedHashMap<>();
+        for (Reference reference : this.fileLinks) {
+            Element element = this.getLoadedElement(reference.id);
+            if (element != null) {
+                Link link = new Link(element, (Stereotype) reference.source);
+                links.put(link.getId(), link);
+            }
+        }
+        for (Object id : this.links) {
+            if ((links.get(id) == null) && (this.project.links.get(id) != null))
+                links.put(id, (Link) this.project.links.get(id));
+        }
+        this.project.setLinks(links);
+    }
+
+    /**
+     * Method responsible for rebuilding the Traceability and Requirement Elements in the File Order.
+     */
+    private void retrace() {
+        HashMap<Traceability, List<Element>> lists = new LinkedHashMap<>();
+        for (Reference reference : this.fileElements) {
+            Element element = this.getLoadedElement(reference.id);
+            if (element == null)
+                continue;
+            if (reference.source instanceof Requirement) {
+                ((Requirement) reference.source).addElement(element);
+            }else {
+                if (lists.get((Traceability) reference.source) == null)
+                    lists.put((Traceability) reference.source, new ArrayList<>());
+                lists.get((Traceability) reference.source).add(element);
+            }
+        }
+        for (Traceability current : lists.keySet()) {
+            List<Element> list = lists.get(current);
+            for (Element element : current.getElements()) {
+                if (!list.contains(element))
+                    list.add(element);
+            }
+            current.setElements(list);
+        }
+    }
+
+    /**
+     * Method responsible for returning a loaded Element by Id, without materializing Diagrams.
+     * @param  id Element Id.
+     * @return Element found.
+     */
+    private Element getLoadedElement(String id) {
+        Object object = this.project.objects.get(id);
+        return object instanceof Element ? (Element) object : null;
+    }
+
+    @Override
+    public void hydrate(List<DiagramHandle> handles) {
+        Set<String> ids   = new HashSet<>();
+        Set<String> dirty = new HashSet<>();
+        for (DiagramHandle current : handles)
+            ids.add(current.getId());
+        for (String section : Project.SECTIONS) {
+            if (this.project.isDirty(section))
+                dirty.add(section);
+        }
+        try (InputStream input = Files.newInputStream(new File(this.path).toPath())) {
+            new ImportProject(this, ids).importProject(input);
+        } catch (IOException | XMLStreamException exception) {
+            throw new IllegalStateException("Error to load the Diagrams " + ids, exception);
+        }
+        for (String section : Project.SECTIONS) {
+            if (!dirty.contains(section))
+                this.project.setClean(section);
+        }
+        if (this.project.getDiagramHandles().isEmpty())
+            this.project.setHydrator(null);
+    }
+
+    /**
+     * Method responsible for returning the Diagram by W3C Element.
+     * @param  element W3C Element.
+     * @return Diagram.
+     */
+    private Diagram getDiagram(org.w3c.dom.Element element) {
+        switch (element.getAttribute("type")) {
+            case "Feature":
+                return new FeatureDiagram(this.project, element);
+            case "UseCase":
+                return new UseCaseDiagram(this.project, element);
+            case "Class":
+                return new ClassDiagram(this.project, element);
+            case "Component":
+                return new ComponentDiagram(this.project, element);
+            case "Sequence":
+                return new SequenceDiagram(this.project, element);
+            case "Activity":
+                return new ActivityDiagram(this.project, element);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Method responsible for handling the Start of a Diagram Tag.
+     * @param tag Tag Name.
+     * @param element W3C Element.
+     */
+    private void startDiagram(String tag, org.w3c.dom.Element element) {
+        switch (tag) {
+            case "generalization":
+                this.startAssociation(tag, new Generalization(this.getSource(element), this.getTarget(element)), element);
+                break;
+            case "dependency":
+                this.startAssociation(tag, new Dependency(this.getSource(element), this.getTarget(element)), element);
+                break;
+            case "requires":
+                this.startAssociation(tag, new Requires(this.getSource(element), this.getTarget(element)), element);
+                break;
+            case "mutex":
+                this.startAssociation(tag, new Mutex(this.getSource(element), this.getTarget(element)), element);
+                break;
+            case "variability":
+                this.startVariability(element);
+                break;
+            case "variant":
+                this.addVariant(element);
+                break;
+            default:
+                this.startDiagramElement(tag, element);
+                break;
+        }
+    }
+
+    /**
+     * Method responsible for handling the Start of a Diagram Element Tag.
+     * @param tag Tag Name.
+     * @param element W3C Element.
+     */
+    private void startDiagramElement(String tag, org.w3c.dom.Element element) {
+        if (this.diagram instanceof FeatureDiagram)
+            this.startFeature(tag, element);
+        else if (this.diagram instanceof UseCaseDiagram)
+            this.startUseCase(tag, element);
+        else if (this.diagram instanceof ClassDiagram)
+            this.startClass(tag, element);
+        else if (this.diagram instanceof ComponentDiagram)
+            this.startComponent(tag, element);
+        else if (this.diagram instanceof SequenceDiagram)
+            this.startSequence(tag, element);
+        else if (this.diagram instanceof ActivityDiagram)
+            this.startActivity(tag, element);
+    }
+
+    /**
+     * Method responsible for handling the Start of a Feature Diagram Tag.
+     * @param tag Tag Name.
+     * @param element W3C Element.
+     */
+    private void startFeature(String tag, org.w3c.dom.Element element) {
+        FeatureDiagram featureDiagram = (FeatureDiagram) this.diagram;
+        if (tag.equals("feature"))
+            featureDiagram.addFeature(new Feature(element, this.diagram));
+        else if (tag.equals("connection"))
+            this.startAssociation(tag, new Connection(element), element);
+        else if (tag.equals("combination"))
+            this.startAssociation(tag, new Combination(element), element);
+    }
+
+    /**
+     * Method responsible for handling the Start of a Use Case Diagram Tag.
+     * @param tag Tag Name.
+     * @param element W3C Element.
+     */
+    private void startUseCase(String tag, org.w3c.dom.Element element) {
+        UseCaseDiagram useCaseDiagram = (UseCaseDiagram) this.diagram;
+        if (tag.equals("actor"))
+            useCaseDiagram.addActor(new ActorUML(element, this.diagram));
+        else if (tag.equals("useCase"))
+            useCaseDiagram.addUseCase(new UseCaseUML(element, this.diagram));
+        else if (tag.equals("communication"))
+            this.startAssociation(tag, new CommunicationUML(element), element);
+        else if (tag.equals("extend"))
+            this.startAssociation(tag, new ExtendUML(element), element);
+        else if (tag.equals("include"))
+            this.startAssociation(tag, new IncludeUML(element), element);
+    }
+
+    /**
+     * Method responsible for handling the Start of a Class Diagram Tag.
+     * @param tag Tag Name.
+     * @param element W3C Element.
+     */
+    private void startClass(String tag, org.w3c.dom.Element element) {
+        ClassDiagram classDiagram = (ClassDiagram) this.diagram;
+        switch (tag) {
+            case "package":
+                classDiagram.addPackage(new PackageUML(element, this.diagram));
+                break;
+            case "class":
+                this.entity = new ClassUML(element, this.diagram);
+                classDiagram.addClass((ClassUML) this.entity);
+                this.setPackage(element);
+                this.setType();
+                break;
+            case "interface":
+                this.entity = new model.structural.diagram.classes.base.InterfaceUML(element, this.diagram);
+                classDiagram.addInterface((model.structural.diagram.classes.base.InterfaceUML) this.entity);
+                this.setPackage(element);
+                this.setType();
+                break;
+            case "attribute":
+                this.addAttribute(classDiagram, element);
+                break;
+            case "method":
+                this.addMethod(classDiagram, element);
+                break;
+            case "parameter":
+                this.addParameter(element);
+                break;
+            case "reference":
+                this.setParent(classDiagram, element);
+                break;
+            case "association":
+                this.startAssociation(tag, new AssociationUML(element), element);
+                break;
+            case "source":
+                ((AssociationUML) this.association).setSource(element);
+                this.association.setSource(this.getElement(element.getAttribute("entity")));
+                break;
+            case "target":
+                ((AssociationUML) this.association).setTarget(element);
+                this.association.setTarget(this.getElement(element.getAttribute("entity")));
+                break;
+            case "realization":
+                this.startAssociation(tag, new RealizationUML(element), element);
+                break;
+            case "abstraction":
+                this.startAssociation(tag, new Abstraction(element), element);
+                break;
+            case "usage":
+                this.startAssociation(tag, new Usage(element), element);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Method responsible for handling the Start of a Component Diagram Tag.
+     * @param tag Tag Name.
+     * @param element W3C Element.
+     */
+    private void startComponent(String tag, org.w3c.dom.Element element) {
+        ComponentDiagram componentDiagram = (ComponentDiagram) this.diagram;
+        if (tag.equals("component"))
+            componentDiagram.addComponent(new ComponentUML(element, this.diagram));
+        else if (tag.equals("interface"))
+            componentDiagram.addInterface(new model.structural.diagram.component.base.InterfaceUML(element, this.diagram));
+        else if (tag.equals("comunication"))
+            this.startAssociation(tag, new ComunicationUML(element), element);
+    }
+
+    /**
+     * Method responsible for handling the Start of a Sequence Diagram Tag.
+     * @param tag Tag Name.
+     * @param element W3C Element.
+     */
+    private void startSequence(String tag, org.w3c.dom.Element element) {
+        SequenceDiagram sequenceDiagram = (SequenceDiagram) this.diagram;
+        if (tag.equals("lifeline")) {
+            LifelineUML lifeline = new LifelineUML(element, this.diagram);
+            sequenceDiagram.addLifeline(lifeline);
+            this.references.add(new Reference(lifeline, element.getAttribute("actor")));
+        }else if (tag.equals("instance")) {
+            InstanceUML instanceUML = new InstanceUML(element, this.diagram);
+            sequenceDiagram.addInstance(instanceUML);
+            this.references.add(new Reference(instanceUML, element.getAttribute("class")));
+        }else if (tag.equals("message")) {
+            this.startAssociation(tag, new MessageUML(element), element);
+            this.references.add(new Reference(this.association, element.getAttribute("method")));
+        }
+    }
+
+    /**
+     * Method responsible for handling the Start of a Activity Diagram Tag.
+     * @param tag Tag Name.
+     * @param element W3C Element.
+     */
+    private void startActivity(String tag, org.w3c.dom.Element element) {
+        ActivityDiagram activityDiagram = (ActivityDiagram) this.diagram;
+        switch (tag) {
+            case "activity":
+                activityDiagram.addActivity(new ActivityUML(element, this.diagram));
+                break;
+            case "decision":
+                activityDiagram.addDecision(new DecisionUML(element, this.diagram));
+                break;
+            case "initial":
+                activityDiagram.addInitial(new InitialUML(element, this.diagram));
+                break;
+            case "final":
+                activityDiagram.addFinal(new FinalUML(element, this.diagram));
+                break;
+            case "flow":
+                this.startAssociation(tag, new FlowUML(element), element);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Method responsible for returning a Element by Id.
+     * @param  id Element Id.
+     * @return Element found.
+     */
+    private Element getElement(String id) {
+        return this.project.getElement(id);
+    }
+
+    /**
+     * Method responsible for returning the Association Source by W3C Element.
+     * @param  element W3C Element.
+     * @return Association Source.
+     */
+    private Element getSource(org.w3c.dom.Element element) {
+        for (String attribute : new String[]{"source", "actor", "component", "class"}) {
+            if (element.hasAttribute(attribute))
+                return this.getElement(element.getAttribute(attribute));
+        }
+        return null;
+    }
+
+    /**
+     * Method responsible for returning the Association Target by W3C Element.
+     * @param  element W3C Element.
+     * @return Association Target.
+     */
+    private Element getTarget(org.w3c.dom.Element element) {
+        for (String attribute : new String[]{"target", "useCase", "interface"}) {
+            if (element.hasAttribute(attribute))
+                return this.getElement(element.getAttribute(attribute));
+        }
+        return null;
+    }
+
+    /**
+     * Method responsible for starting a Association.
+     * @param tag Tag Name.
+     * @param association Association.
+     * @param element W3C Element.
+     */
+    private void startAssociation(String tag, Association association, org.w3c.dom.Element element) {
+        association.setId(element.getAttribute("id"));
+        if (association.getSource() == null)
+            association.setSource(this.getSource(element));
+        if (association.getTarget() == null)
+            association.setTarget(this.getTarget(element));
+        this.association    = association;
+        this.associationTag = tag;
+    }
+
+    /**
+     * Method responsible for ending a Association.
+     * Associations are added at the End Tag, after the Points and the Source and Target Tags.
+     */
+    private void endAssociation() {
+        if (this.diagram instanceof FeatureDiagram)
+            this.addFeatureAssociation((FeatureDiagram) this.diagram);
+        else if (this.diagram instanceof UseCaseDiagram)
+            this.addUseCaseAssociation((UseCaseDiagram) this.diagram);
+        else if (this.diagram instanceof ClassDiagram)
+            this.addClassAssociation((ClassDiagram) this.diagram);
+        else if (this.diagram instanceof ComponentDiagram)
+            this.addComponentAssociation((ComponentDiagram) this.diagram);
+        else if (this.diagram instanceof SequenceDiagram)
+            this.addSequenceAssociation((SequenceDiagram) this.diagram);
+        else if (this.diagram instanceof ActivityDiagram)
+            this.addActivityAssociation((ActivityDiagram) this.diagram);
+        this.association    = null;
+        this.associationTag = null;
+    }
+
+    /**
+     * Method responsible for adding a Base Association.
+     * @return Association is a Base Association.
+     */
+    private boolean addBaseAssociation() {
+        if (this.association instanceof Generalization)
+            this.diagram.addGeneralization((Generalization) this.association);
+        else if (this.association instanceof Dependency)
+            this.diagram.addDependency((Dependency) this.association);
+        else if (this.association instanceof Requires)
+            this.diagram.addRequires((Requires) this.association);
+        else if (this.association instanceof Mutex)
+            this.diagram.addMutex((Mutex) this.association);
+        else
+            return false;
+        return true;
+    }
+
+    /**
+     * Method responsible for adding a Feature Diagram Association.
+     * @param featureDiagram Feature Diagram.
+     */
+    private void addFeatureAssociation(FeatureDiagram featureDiagram) {
+        if (this.addBaseAssociation())
+            return;
+        if (this.association instanceof Connection)
+            featureDiagram.addConnection((Connection) this.association);
+        else if (this.association instanceof Combination)
+            featureDiagram.addCombination((Combination) this.association);
+    }
+
+    /**
+     * Method responsible for adding a Use Case Diagram Association.
+     * @param useCaseDiagram Use Case Diagram.
+     */
+    private void addUseCaseAssociation(UseCaseDiagram useCaseDiagram) {
+        if (this.addBaseAssociation())
+            return;
+        if (this.association instanceof CommunicationUML)
+            useCaseDiagram.addCommunication((CommunicationUML) this.association);
+        else if (this.association instanceof ExtendUML)
+            useCaseDiagram.addExtend((ExtendUML) this.association);
+        else if (this.association instanceof IncludeUML)
+            useCaseDiagram.addInclude((IncludeUML) this.association);
+    }
+
+    /**
+     * Method responsible for adding a Class Diagram Association.
+     * @param classDiagram Class Diagram.
+     */
+    private void addClassAssociation(ClassDiagram classDiagram) {
+        if (this.addBaseAssociation())
+            return;
+        if (this.association instanceof AssociationUML)
+            classDiagram.addAssociationUML((AssociationUML) this.association);
+        else if (this.association instanceof RealizationUML)
+            classDiagram.addRealizationUML((RealizationUML) this.association);
+        else if (this.association instanceof Abstraction)
+            classDiagram.addAbstraction((Abstraction) this.association);
+        else if (this.association instanceof Usage)
+            classDiagram.addUsage((Usage) this.association);
+    }
+
+    /**
+     * Method responsible for adding a Component Diagram Association.
+     * @param componentDiagram Component Diagram.
+     */
+    private void addComponentAssociation(ComponentDiagram componentDiagram) {
+        if (this.addBaseAssociation())
+            return;
+        if (this.association instanceof ComunicationUML)
+            componentDiagram.addComunication((ComunicationUML) this.association);
+    }
+
+    /**
+     * Method responsible for adding a Sequence Diagram Association.
+     * The Message Sequence is restored after the Diagram renumbers it.
+     * @param sequenceDiagram Sequence Diagram.
+     */
+    private void addSequenceAssociation(SequenceDiagram sequenceDiagram) {
+        if (this.addBaseAssociation())
+            return;
+        if (this.association instanceof MessageUML) {
+            MessageUML message  = (MessageUML) this.association;
+            Integer    sequence = message.getSequence();
+            sequenceDiagram.addMessage(message);
+            message.setSequence(sequence);
+        }
+    }
+
+    /**
+     * Method responsible for adding a Activity Diagram Association.
+     * @param activityDiagram Activity Diagram.
+     */
+    private void addActivityAssociation(ActivityDiagram activityDiagram) {
+        if (this.addBaseAssociation())
+            return;
+        if (this.association instanceof FlowUML)
+            activityDiagram.addFlow((FlowUML) this.association);
+    }
+
+    /**
+     * Method responsible for adding a Point to the Current Association or Relationship.
+     * @param element W3C Element.
+     */
+    private void addPoint(org.w3c.dom.Element element) {
+        mxPoint point = new mxPoint(Double.parseDouble(element.getAttribute("x")),
+                                    Double.parseDouble(element.getAttribute("y")));
+        if (this.relationship != null)
+            this.relationship.addPoint(point);
+        else if (this.association != null)
+            this.association.addPoint(point);
+    }
+
+    /**
+     * Method responsible for starting a Variability.
+     * Feature Variabilities have Category and Base Variabilities have Constraint.
+     * The Variation Point is resolved at the End of the Diagram, since it can be declared after the Variability.
+     * @param element W3C Element.
+     */
+    private void startVariability(org.w3c.dom.Element element) {
+        if (element.hasAttribute("constraint")) {
+            this.variability = new Variability(element);
+            this.variationPoints.add(new Reference(this.variability, element.getAttribute("variationPoint")));
+        }else {
+            this.featureVariability = new model.structural.diagram.feature.base.Variability(element, this.diagram);
+            ((FeatureDiagram) this.diagram).addVariability(this.featureVariability);
+            this.variationPoints.add(new Reference(this.featureVariability, element.getAttribute("variationPoint")));
+        }
+    }
+
+    /**
+     * Method responsible for adding a Variant to the Current Variability.
+     * The Variant is resolved at the End of the Diagram, since it can be declared after the Variability.
+     * @param element W3C Element.
+     */
+    private void addVariant(org.w3c.dom.Element element) {
+        if (this.variability != null)
+            this.variants.add(new Reference(this.variability, element.getAttribute("id")));
+        else if (this.featureVariability != null)
+            this.variants.add(new Reference(this.featureVariability, element.getAttribute("id")));
+    }
+
+    /**
+     * Method responsible for resolving the Variation Points and Variants of the Diagram Variabilities.
+     * The Base Variabilities are added to the Diagram in the File Order once resolved.
+     */
+    private void resolveVariabilities() {
+        for (Reference reference : this.variationPoints)
+            reference.resolveVariationPoint(this.getElement(reference.id));
+        for (Reference reference : this.variants)
+            reference.resolveVariant(this.getElement(reference.id));
+        for (Reference reference : this.variationPoints) {
+            if (reference.source instanceof Variability)
+                this.diagram.addVariability((Variability) reference.source);
+        }
+        this.variationPoints.clear();
+        this.variants.clear();
+    }
+
+    /**
+     * Method responsible for ending a Variability.
+     * Base Variabilities are added at the End of the Diagram, after the Variation Point and the Variants are resolved.
+     */
+    private void endVariability() {
+        this.variability        = null;
+        this.featureVariability = null;
+    }
+
+    /**
+     * Method responsible for setting the Package of the Current Entity.
+     * @param element W3C Element.
+     */
+    private void setPackage(org.w3c.dom.Element element) {
+        Element parent = this.getElement(element.getAttribute("parent"));
+        if (parent instanceof PackageUML) {
+            this.entity.setPackageUML((PackageUML) parent);
+            ((PackageUML) parent).addEntity(this.entity);
+        }
+    }
+
+    /**
+     * Method responsible for setting the Type of the Current Entity.
+     * The Type read from the File is kept instead of the Type created by the Diagram.
+     */
+    private void setType() {
+        TypeUML type = this.types.get(this.entity.getId());
+        if (type != null) {
+            this.project.addDefaultType(type);
+            this.entity.setTypeUML(type);
+        }
+    }
+
+    /**
+     * Method responsible for setting the Parent of a Package.
+     * @param classDiagram Class Diagram.
+     * @param element W3C Element.
+     */
+    private void setParent(ClassDiagram classDiagram, org.w3c.dom.Element element) {
+        Element package_ = this.getElement(element.getAttribute("package"));
+        Element parent   = this.getElement(element.getAttribute("parent"));
+        if ((package_ instanceof PackageUML) && (parent instanceof PackageUML)) {
+            ((PackageUML) package_).setParent((PackageUML) parent);
+            ((PackageUML) parent).addPackage((PackageUML) package_);
+        }
+    }
+
+    /**
+     * Method responsible for adding a Attribute to the Current Entity.
+     * @param classDiagram Class Diagram.
+     * @param element W3C Element.
+     */
+    private void addAttribute(ClassDiagram classDiagram, org.w3c.dom.Element element) {
+        AttributeUML attribute = new AttributeUML(element, this.diagram);
+                     attribute.setEntity(this.entity);
+        classDiagram.addAttribute(attribute);
+        this.entity.addAttribute(attribute);
+        this.references.add(new Reference(attribute, element.getAttribute("type")));
+    }
+
+    /**
+     * Method responsible for adding a Method to the Current Entity.
+     * @param classDiagram Class Diagram.
+     * @param element W3C Element.
+     */
+    private void addMethod(ClassDiagram classDiagram, org.w3c.dom.Element element) {
+        this.method = new MethodUML(element, this.diagram);
+        this.method.setEntity(this.entity);
+        classDiagram.addMethod(this.method);
+        this.entity.addMethod(this.method);
+        if (this.method.isConstructor() == false)
+            this.references.add(new Reference(this.method, element.getAttribute("return")));
+    }
+
+    /**
+     * Method responsible for adding a Parameter to the Current Method.
+     * @param element W3C Element.
+     */
+    private void addParameter(org.w3c.dom.Element element) {
+        ParameterUML parameter = new ParameterUML(element);
+        this.method.addParameter(parameter);
+        this.references.add(new Reference(parameter, element.getAttribute("type")));
+    }
+
+    /**
+     * Method responsible for adding a Element to the Current Traceability or Requirement.
+     * @param element W3C Element.
+     */
+    private void addElement(org.w3c.dom.Element element) {
+        Object owner = this.traceability != null ? this.traceability : this.requirement;
+        if (this.lazy)
+            this.fileElements.add(new Reference(owner, element.getAttribute("id")));
+        Element current = this.getLoadedElement(element.getAttribute("id"));
+        if (current == null)
+            return;
+        if (this.traceability != null)
+            this.traceability.addElement(current);
+        else if (this.requirement != null)
+            this.requirement.addElement(current);
+    }
+
+    /**
+     * Method responsible for setting the Description of the Current Object.
+     * @param description Description.
+     */
+    private void setDescription(String description) {
+        if (this.entity != null)
+            this.entity.setDescription(description);
+        else if (this.requirement != null)
+            this.requirement.setDescription(description);
+        else if (this.traceability != null)
+            this.traceability.setDescription(description);
+        else if (this.metric != null)
+            this.metric.setDescription(description);
+        else if (this.product != null)
+            this.product.setDescription(description);
+    }
+
+    /**
+     * Method responsible for adding a Link.
+     * @param element W3C Element.
+     */
+    private void addLink(org.w3c.dom.Element element) {
+        Stereotype stereotype = this.project.getStereotype(element.getAttribute("stereotype"));
+        Element    current    = this.getLoadedElement(element.getAttribute("element"));
+        if ((stereotype != null) && this.lazy)
+            this.fileLinks.add(new Reference(stereotype, element.getAttribute("element")));
+        if ((current != null) && (stereotype != null))
+            this.project.addLink(new Link(current, stereotype));
+    }
+
+    /**
+     * Method responsible for handling the Start of a Product Tag.
+     * @param tag Tag Name.
+     * @param element W3C Element.
+     */
+    private void startProduct(String tag, org.w3c.dom.Element element) {
+        if (tag.equals("instance")) {
+            this.instance = new Instance(element);
+            this.instance.setDiagram(this.project.getDiagram(element.getAttribute("diagram")));
+            this.product.addInstance(this.instance);
+        }else if (tag.equals("artifact")) {
+            Artifact artifact = new Artifact(element, true);
+                     artifact.setElement(this.getElement(element.getAttribute("element")));
+            this.instance.addArtifact(artifact);
+        }else if (tag.equals("relationship")) {
+            this.relationship = new Relationship(element);
+            this.relationship.setAssociation(this.instance.getDiagram().getAssociation(element.getAttribute("association")));
+            this.instance.addRelationship(this.relationship);
+        }
+    }
+
+    /**
+     * Method responsible for adding a Measure.
+     * @param element W3C Element.
+     */
+    private void addMeasure(org.w3c.dom.Element element) {
+        Measure measure = new Measure(element);
+                measure.setDate(element.getAttribute("date"));
+                measure.setMetric(this.project.getMetric(element.getAttribute("metric")));
+        this.project.addMeasure(measure);
+    }
+
+    /**
+     * Method responsible for finishing the Import.
+     * @return Project imported.
+     */
+    Project finish() {
+        this.resolveReferences();
+        this.resolveProducts();
+        if (this.targets == null)
+            this.project.setClean();
+        else
+            this.setClean();
+        return this.project;
+    }
+
+    /**
+     * Method responsible for marking the materialized Diagrams as saved.
+     */
+    private void setClean() {
+        for (String id : this.targets)
+            ((Diagram) this.project.getDiagrams().get(id)).setDirty(false);
+    }
+
+    /**
+     * Method responsible for resolving the Forward References.
+     * Types, Classes, Actors and Methods can be declared after the Objects that refer to them.
+     */
+    private void resolveReferences() {
+        for (Reference reference : this.references)
+            reference.resolve(this.project);
+        this.references.clear();
+    }
+
+    /**
+     * Method responsible for resolving the Products read in Lazy Mode.
+     * The Instances and Artifacts refer to Diagrams and Elements, so the Diagrams of the Instances are materialized in a single Read after the Stream, and the Product Tags are handled again in the File Order.
+     */
+    private void resolveProducts() {
+        if (this.fileProducts.isEmpty())
+            return;
+        Set<String>         ids     = new HashSet<>();
+        List<DiagramHandle> handles = new ArrayList<>();
+        for (Object part : this.fileProducts) {
+            if ((part instanceof org.w3c.dom.Element) && ((org.w3c.dom.Element) part).getTagName().equals("instance"))
+                ids.add(((org.w3c.dom.Element) part).getAttribute("diagram"));
+        }
+        for (DiagramHandle current : this.project.getDiagramHandles()) {
+            if (ids.contains(current.getId()))
+                handles.add(current);
+        }
+        if (!handles.isEmpty())
+            this.hydrate(handles);
+        for (Object part : this.fileProducts) {
+            if (part instanceof Product)
+                this.product = (Product) part;
+            else
+                this.startProduct((org.w3c.dom.Element) part);
+        }
+        this.fileProducts.clear();
+        this.product      = null;
+        this.instance     = null;
+        this.relationship = null;
+    }
+
+    /**
+     * Method responsible for handling again a Product Tag read in Lazy Mode.
+     * @param element W3C Element.
+     */
+    private void startProduct(org.w3c.dom.Element element) {
+        String tag = element.getTagName();
+        if (tag.equals("point"))
+            this.addPoint(element);
+        else {
+            this.relationship = null;
+            this.startProduct(tag, element);
+        }
+    }
+
+    /**
+     * <p>Class of File <b>Reference</b>.</p>
+     * <p>Class responsible for representing a <b>Forward Reference</b> resolved after the Stream.</p>
+     */
+    private static class Reference {
+        private final Object source;
+        private final String id;
+
+        /**
+         * Default constructor method of Class.
+         * @param source Source Object.
+         * @param id Target Id.
+         */
+        public Reference(Object source, String id) {
+            this.source = source;
+            this.id     = id;
+        }
+
+        /**
+         * Method responsible for resolving the Reference.
+         * @param project Project.
+         */
+        public void resolve(Project project) {
+            TypeUML type = (TypeUML) project.types.get(this.id);
+            if (this.source instanceof AttributeUML)
+                ((AttributeUML) this.source).setTypeUML(type != null ? type : project.getObjectType());
+            else if (this.source instanceof MethodUML)
+                ((MethodUML) this.source).setReturn(type != null ? type : project.getVoidType());
+            else if (this.source instanceof ParameterUML)
+                ((ParameterUML) this.source).setType(type != null ? type : project.getObjectType());
+            else
+                this.resolve(project, project.getElement(this.id));
+        }
+
+        /**
+         * Method responsible for resolving the Reference to a Element.
+         * @param project Project.
+         * @param target Target Element.
+         */
+        private void resolve(Project project, Element target) {
+            if ((this.source instanceof LifelineUML) && (target instanceof ActorUML))
+                ((LifelineUML) this.source).setActor((ActorUML) target);
+            else if ((this.source instanceof InstanceUML) && (target instanceof ClassUML))
+                ((InstanceUML) this.source).setClassUML((ClassUML) target);
+            else if ((this.source instanceof MessageUML) && (target instanceof MethodUML))
+                ((MessageUML) this.source).setMethod((MethodUML) target);
+        }
+
+        /**
+         * Method responsible for resolving the Reference to a Variation Point.
+         * @param target Variation Point.
+         */
+        public void resolveVariationPoint(Element target) {
+            if (this.source instanceof Variability)
+                ((Variability) this.source).setVariationPoint(target);
+            else if ((this.source instanceof model.structural.diagram.feature.base.Variability) && (target instanceof Feature))
+                ((model.structural.diagram.feature.base.Variability) this.source).setVariationPoint((Feature) target);
+        }
+
+        /**
+         * Method responsible for resolving the Reference to a Variant.
+         * @param target Variant.
+         */
+        public void resolveVariant(Element target) {
+            if ((this.source instanceof Variability) && (target != null))
+                ((Variability) this.source).addVariant(target);
+            else if ((this.source instanceof model.structural.diagram.feature.base.Variability) && (target instanceof Feature))
+                ((model.structural.diagram.feature.base.Variability) this.source).addVariant((Feature) target);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,190 @@
+package file.importation;
+
+import file.exportation.ExportSnapshot;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import javax.xml.stream.XMLStreamException;
+import model.structural.base.Project;
+
+/**
+ * <p>Class of File <b>ImportSnapshot</b>.</p>
+ * <p>Class responsible for <b>Importing the Project Snapshot</b> in SMartyModeling.</p>
+ * <p>The Snapshot Events are replayed on the Project Import, so the Model is rebuilt as from the XML File.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    file.exportation.ExportSnapshot
+ * @see    file.importation.ImportProject
+ */
+public class ImportSnapshot {
+    private final String path;
+    private final List<String> strings;
+    private DataInputStream input;
+
+    /**
+     * Default constructor method of Class.
+     * @param path Project Path.
+     */
+    public ImportSnapshot(String path) {
+        this.path    = path;
+        this.strings = new ArrayList<>();
+    }
+
+    /**
+     * Method responsible for returning if the Project has a updated Snapshot.
+     * @return Project has a updated Snapshot.
+     */
+    public boolean hasSnapshot() {
+        File project  = new File(this.path);
+        File snapshot = ExportSnapshot.getFile(this.path);
+        return snapshot.isFile() && (snapshot.lastModified() >= project.lastModified());
+    }
+
+    /**
+     * Method responsible for importing the Project from the Snapshot next to the Project File.
+     * @return Project imported.
+     * @throws IOException Exception to read the Snapshot.
+     */
+    public Project importProject() throws IOException {
+        try (InputStream stream = Files.newInputStream(ExportSnapshot.getFile(this.path).toPath())) {
+            return this.importProject(stream);
+        }
+    }
+
+    /**
+     * Method responsible for importing the Project from a Input Stream.
+     * @param  stream Input Stream.
+     * @return Project imported.
+     * @throws IOException Exception to read the Snapshot.
+     */
+    public Project importProject(InputStream stream) throws IOException {
+        this.strings.clear();
+        this.input = new DataInputStream(new BufferedInputStream(stream));
+        if (this.input.readInt() != ExportSnapshot.MAGIC)
+            throw new IOException("Invalid Snapshot File");
+        int version = this.readVarint();
+        if (version != ExportSnapshot.VERSION)
+            throw new IOException("Unsupported Snapshot Version: " + version);
+        try {
+            return this.importProject(new ImportProject(this.path));
+        } catch (XMLStreamException exception) {
+            throw new IOException(exception);
+        }
+    }
+
+    /**
+     * Method responsible for replaying the Snapshot Events on the Project Import.
+     * @param  importProject Project Import.
+     * @return Project imported.
+     * @throws IOException Exception to read the Snapshot.
+     * @throws XMLStreamException Exception to create the W3C Elements.
+     */
+    private Project importProject(ImportProject importProject) throws IOException, XMLStreamException {
+        Deque<String> tags  = new ArrayDeque<>();
+        int           event = this.readEvent();
+        while (event != ExportSnapshot.EOF) {
+            switch (event) {
+                case ExportSnapshot.START:
+                    String tag = this.readString();
+                    tags.push(tag);
+                    importProject.start(tag, this.readElement(importProject, tag));
+                    break;
+                case ExportSnapshot.TEXT:
+                    importProject.characters(this.readString());
+                    break;
+                case ExportSnapshot.END:
+                    importProject.end(tags.pop());
+                    break;
+                default:
+                    throw new IOException("Invalid Snapshot Event: " + event);
+            }
+            event = this.readEvent();
+        }
+        return importProject.finish();
+    }
+
+    /**
+     * Method responsible for reading the Attributes of a Tag.
+     * @param  importProject Project Import.
+     * @param  tag Tag Name.
+     * @return Detached W3C Element.
+     * @throws IOException Exception to read the Snapshot.
+     * @throws XMLStreamException Exception to create the W3C Element.
+     */
+    private org.w3c.dom.Element readElement(ImportProject importProject, String tag) throws IOException, XMLStreamException {
+        org.w3c.dom.Element element = importProject.newElement(tag);
+        int count = this.readVarint();
+        for (int i = 0; i < count; i++) {
+            String name = this.readString();
+            element.setAttribute(name, this.readValue());
+        }
+        return element;
+    }
+
+    /**
+     * Method responsible for reading a Event.
+     * @return Event.
+     * @throws IOException Exception to read the Snapshot.
+     */
+    private int readEvent() throws IOException {
+        int event = this.input.read();
+        if (event < 0)
+            throw new EOFException("Unexpected End of Snapshot");
+        return event;
+    }
+
+    /**
+     * Method responsible for reading a Attribute Value.
+     * @return Attribute Value.
+     * @throws IOException Exception to read the Snapshot.
+     */
+    private String readValue() throws IOException {
+        if (this.readEvent() == ExportSnapshot.INTEGER) {
+            int value = this.readVarint();
+            return Integer.toString((value >>> 1) ^ -(value & 1));
+        }
+        return this.readString();
+    }
+
+    /**
+     * Method responsible for reading a String by String Table Index.
+     * @return String.
+     * @throws IOException Exception to read the Snapshot.
+     */
+    private String readString() throws IOException {
+        int index = this.readVarint();
+        if (index > 0)
+            return this.strings.get(index - 1);
+        byte[] bytes  = new byte[this.readVarint()];
+        this.input.readFully(bytes);
+        String string = new String(bytes, StandardCharsets.UTF_8);
+        this.strings.add(string);
+        return string;
+    }
+
+    /**
+     * Method responsible for reading a Unsigned Varint.
+     * @return Value.
+     * @throws IOException Exception to read the Snapshot.
+     */
+    private int readVarint() throws IOException {
+        int value = 0;
+        int shift = 0;
+        int current;
+        do {
+            current = this.readEvent();
+            value  |= (current & 0x7F) << shift;
+            shift  += 7;
+        } while ((current & 0x80) != 0);
+        return value;
+    }
+}
\ No newline at end of file
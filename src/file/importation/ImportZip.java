@@ -0,0 +1,283 @@
+package file.importation;
+
+import file.exportation.ExportContainer;
+import file.exportation.ExportZip;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import model.structural.base.Project;
+
+/**
+ * <p>Class of File <b>ImportZip</b>.</p>
+ * <p>Class responsible for <b>Importing the Project Zip</b> in SMartyModeling.</p>
+ * <p>The Entries are parsed concurrently on a Fork Join Pool into Event Lists. The Events are then replayed in the Index Order on the Project Import, which builds the Model and resolves the References between Diagrams, Links, Traceabilities and Instances.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    file.exportation.ExportZip
+ * @see    file.importation.ImportProject
+ */
+public class ImportZip {
+    private static final String WRAPPER = "entry";
+    private final String path;
+    private final ForkJoinPool pool;
+
+    /**
+     * Default constructor method of Class.
+     * @param path Project Path.
+     */
+    public ImportZip(String path) {
+        this(path, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Alternative constructor method of Class.
+     * @param path Project Path.
+     * @param pool Fork Join Pool.
+     */
+    public ImportZip(String path, ForkJoinPool pool) {
+        this.path = path;
+        this.pool = pool;
+    }
+
+    /**
+     * Method responsible for returning if the Project has a Zip.
+     * @return Project has a Zip.
+     */
+    public boolean hasZip() {
+        return ExportZip.getFile(this.path).isFile();
+    }
+
+    /**
+     * Method responsible for importing the Project from the Zip next to the Project File.
+     * @return Project imported.
+     * @throws IOException Exception to read the Zip.
+     */
+    public Project importProject() throws IOException {
+        return this.importProject(ExportZip.getFile(this.path));
+    }
+
+    /**
+     * Method responsible for importing the Project from a Zip File.
+     * @param  file Zip File.
+     * @return Project imported.
+     * @throws IOException Exception to read the Zip.
+     */
+    public Project importProject(File file) throws IOException {
+        try (ZipFile zip = new ZipFile(file)) {
+            List<Entry> tasks = new ArrayList<>();
+            for (String name : this.getIndex(zip))
+                tasks.add(new Entry(zip, name));
+            List<Future<List<Event>>> entries = this.pool.invokeAll(tasks);
+            ImportProject importProject = new ImportProject(this.path);
+            for (Future<List<Event>> entry : entries) {
+                for (Event event : this.get(entry))
+                    event.replay(importProject);
+            }
+            importProject.end("project");
+            return importProject.finish();
+        }
+    }
+
+    /**
+     * Method responsible for returning the Zip Index.
+     * @param  zip Zip File.
+     * @return Entries Names.
+     * @throws IOException Exception to read the Index.
+     */
+    private List<String> getIndex(ZipFile zip) throws IOException {
+        ZipEntry index = zip.getEntry(ExportContainer.INDEX);
+        if (index == null)
+            throw new IOException("Invalid Project Zip: Index not found");
+        try (InputStream input = zip.getInputStream(index)) {
+            String string = new String(this.read(input), StandardCharsets.UTF_8);
+            return string.isEmpty() ? new ArrayList<String>() : Arrays.asList(string.split("\n"));
+        }
+    }
+
+    /**
+     * Method responsible for reading a Input Stream.
+     * @param  input Input Stream.
+     * @return Bytes read.
+     * @throws IOException Exception to read the Stream.
+     */
+    private byte[] read(InputStream input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[]                buffer = new byte[8192];
+        int                   count  = input.read(buffer);
+        while (count >= 0) {
+            output.write(buffer, 0, count);
+            count = input.read(buffer);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Method responsible for returning the Events of a Parse Task.
+     * @param  future Parse Task Future.
+     * @return Entry Events.
+     * @throws IOException Exception to parse the Entry.
+     */
+    private List<Event> get(Future<List<Event>> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Zip Import interrupted");
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof IOException)
+                throw (IOException) exception.getCause();
+            throw new IOException(exception.getCause());
+        }
+    }
+
+    /**
+     * <p>Class of File <b>Entry</b>.</p>
+     * <p>Class responsible for <b>Parsing a Zip Entry</b> in a Fork Join Pool Task.</p>
+     * <p>A Entry can have many Root Tags, so it is parsed inside a Wrapper Tag. The Project Entry has only the Project Start Tag, whose End is replayed after the last Entry.</p>
+     */
+    private static class Entry implements Callable<List<Event>> {
+        private final ZipFile zip;
+        private final String  name;
+
+        /**
+         * Default constructor method of Class.
+         * @param zip Zip File.
+         * @param name Entry Name.
+         */
+        public Entry(ZipFile zip, String name) {
+            this.zip  = zip;
+            this.name = name;
+        }
+
+        @Override
+        public List<Event> call() throws IOException, XMLStreamException, ParserConfigurationException {
+            ZipEntry entry = this.zip.getEntry(this.name);
+            if (entry == null)
+                throw new IOException("Invalid Project Zip: Entry " + this.name + " not found");
+            boolean project = this.name.equals("project.xml");
+            try (InputStream input = new SequenceInputStream(Collections.enumeration(Arrays.asList(
+                    this.getStream("<" + WRAPPER + ">"),
+                    this.zip.getInputStream(entry),
+                    this.getStream((project ? ExportContainer.END : "") + "</" + WRAPPER + ">"))))) {
+                return this.parse(XMLInputFactory.newInstance().createXMLStreamReader(input), project);
+            }
+        }
+
+        /**
+         * Method responsible for returning a Input Stream of a String.
+         * @param  string String.
+         * @return Input Stream.
+         */
+        private InputStream getStream(String string) {
+            return new ByteArrayInputStream(string.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Method responsible for parsing the Events of the Entry.
+         * The W3C Elements are created in a Document of the Task, since Documents are not Thread Safe.
+         * @param  reader XML Stream Reader.
+         * @param  project Entry is the Project Entry.
+         * @return Entry Events.
+         * @throws XMLStreamException Exception to parse the Entry.
+         * @throws ParserConfigurationException Exception to create the Document.
+         */
+        private List<Event> parse(XMLStreamReader reader, boolean project) throws XMLStreamException, ParserConfigurationException {
+            org.w3c.dom.Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+            List<Event> events = new ArrayList<>();
+            int         depth  = 0;
+            try {
+                while (reader.hasNext()) {
+                    switch (reader.next()) {
+                        case XMLStreamConstants.START_ELEMENT:
+                            if (depth++ > 0)
+                                events.add(new Event(reader.getLocalName(), this.getElement(document, reader), null));
+                            break;
+                        case XMLStreamConstants.CHARACTERS:
+                        case XMLStreamConstants.CDATA:
+                            if (depth > 1)
+                                events.add(new Event(null, null, reader.getText()));
+                            break;
+                        case XMLStreamConstants.END_ELEMENT:
+                            if ((--depth > 0) && !(project && (depth == 1)))
+                                events.add(new Event(reader.getLocalName(), null, null));
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+            return events;
+        }
+
+        /**
+         * Method responsible for returning a detached W3C Element of the Current Tag.
+         * @param  document W3C Document.
+         * @param  reader XML Stream Reader.
+         * @return Detached W3C Element.
+         */
+        private org.w3c.dom.Element getElement(org.w3c.dom.Document document, XMLStreamReader reader) {
+            org.w3c.dom.Element element = document.createElement(reader.getLocalName());
+            for (int i = 0; i < reader.getAttributeCount(); i++)
+                element.setAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+            return element;
+        }
+    }
+
+    /**
+     * <p>Class of File <b>Event</b>.</p>
+     * <p>Class responsible for representing a <b>Parsed Event</b>: a Tag Start with its W3C Element, a Text or a Tag End.</p>
+     */
+    private static class Event {
+        private final String tag;
+        private final org.w3c.dom.Element element;
+        private final String text;
+
+        /**
+         * Default constructor method of Class.
+         * @param tag Tag Name.
+         * @param element W3C Element of a Tag Start.
+         * @param text Text.
+         */
+        public Event(String tag, org.w3c.dom.Element element, String text) {
+            this.tag     = tag;
+            this.element = element;
+            this.text    = text;
+        }
+
+        /**
+         * Method responsible for replaying the Event on the Project Import.
+         * @param importProject Project Import.
+         */
+        public void replay(ImportProject importProject) {
+            if (this.element != null)
+                importProject.start(this.tag, this.element);
+            else if (this.text != null)
+                importProject.characters(this.text);
+            else
+                importProject.end(this.tag);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package funct;
 
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
@@ -310,7 +311,8 @@ public class FunctString {
     public String md5(String string) {
         try {
             MessageDigest messageDigest = MessageDigest.getInstance("MD5");
-                          messageDigest.update(string.getBytes(), 0, string.length());
+            byte[]        bytes         = string.getBytes(StandardCharsets.UTF_8);
+                          messageDigest.update(bytes, 0, bytes.length);
             return new BigInteger(1, messageDigest.digest()).toString(16);
         }catch (NoSuchAlgorithmException exception) {}
         return null;
@@ -0,0 +1,183 @@
+package model.structural.base;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import model.structural.base.association.Association;
+
+/**
+ * <p>Class of Model <b>AssociationIndex</b>.</p>
+ * <p>Class responsible for <b>Indexing the Associations by Element and Type</b> in SMartyModeling.</p>
+ * <p>The Outgoing Associations are indexed by the Source Handle and the Incoming Associations by the Target Handle, both with the Type in Lower Case. The Index keeps the Ends of each Association by its Handle, so a Association can be moved after its Source or Target changes.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    model.structural.base.Diagram
+ */
+class AssociationIndex {
+    private final HandleMap<HashMap<String, LinkedHashMap<String, Association>>> sources;
+    private final HandleMap<HashMap<String, LinkedHashMap<String, Association>>> targets;
+    private final HandleMap<Key> keys;
+
+    /**
+     * Default constructor method of Class.
+     */
+    public AssociationIndex() {
+        this.sources = new HandleMap<>();
+        this.targets = new HandleMap<>();
+        this.keys    = new HandleMap<>();
+    }
+
+    /**
+     * Method responsible for returning the Handle of a Association End.
+     * @param  element Association End.
+     * @return End Handle, or zero for no End.
+     */
+    private int getHandle(Element element) {
+        return (element == null) ? 0 : element.getHandle();
+    }
+
+    /**
+     * Method responsible for adding a Association.
+     * @param association Association.
+     */
+    public void put(Association association) {
+        this.remove(association);
+        Key key = new Key(this.getHandle(association.getSource()), this.getHandle(association.getTarget()), NameIndex.getKey(association.getType()));
+        this.put(this.sources, key.source, key.type, association);
+        this.put(this.targets, key.target, key.type, association);
+        this.keys.put(association.getHandle(), key);
+    }
+
+    /**
+     * Method responsible for adding a Association to a Adjacency Map.
+     * @param map Adjacency Map.
+     * @param handle Element Handle.
+     * @param type Association Type.
+     * @param association Association.
+     */
+    private void put(HandleMap<HashMap<String, LinkedHashMap<String, Association>>> map, int handle, String type, Association association) {
+        HashMap<String, LinkedHashMap<String, Association>> types = map.get(handle);
+        if (types == null) {
+            types = new HashMap<>();
+            map.put(handle, types);
+        }
+        LinkedHashMap<String, Association> associations = types.get(type);
+        if (associations == null) {
+            associations = new LinkedHashMap<>();
+            types.put(type, associations);
+        }
+        associations.put(association.getId(), association);
+    }
+
+    /**
+     * Method responsible for moving a indexed Association after its Ends change.
+     * @param  association Association.
+     * @return Association was moved.
+     */
+    public boolean update(Association association) {
+        Key key = this.keys.get(association.getHandle());
+        if ((key != null)
+        && ((key.source != this.getHandle(association.getSource())) || (key.target != this.getHandle(association.getTarget())))) {
+            this.put(association);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Method responsible for removing a Association.
+     * @param association Association.
+     */
+    public void remove(Association association) {
+        Key key = this.keys.remove(association.getHandle());
+        if (key == null)
+            return;
+        this.remove(this.sources, key.source, key.type, association);
+        this.remove(this.targets, key.target, key.type, association);
+    }
+
+    /**
+     * Method responsible for removing a Association from a Adjacency Map.
+     * @param map Adjacency Map.
+     * @param handle Element Handle.
+     * @param type Association Type.
+     * @param association Association.
+     */
+    private void remove(HandleMap<HashMap<String, LinkedHashMap<String, Association>>> map, int handle, String type, Association association) {
+        HashMap<String, LinkedHashMap<String, Association>> types = map.get(handle);
+        LinkedHashMap<String, Association> associations = (types == null) ? null : types.get(type);
+        if (associations == null)
+            return;
+        associations.remove(association.getId());
+        if (associations.isEmpty())
+            types.remove(type);
+        if (types.isEmpty())
+            map.remove(handle);
+    }
+
+    /**
+     * Method responsible for returning the Outgoing Associations of a Element.
+     * @param  element Source Element.
+     * @param  type Association Type, or null for all Types.
+     * @return Outgoing Associations.
+     */
+    public List<Association> getOutgoing(Element element, String type) {
+        return this.get(this.sources, element, type);
+    }
+
+    /**
+     * Method responsible for returning the Incoming Associations of a Element.
+     * @param  element Target Element.
+     * @param  type Association Type, or null for all Types.
+     * @return Incoming Associations.
+     */
+    public List<Association> getIncoming(Element element, String type) {
+        return this.get(this.targets, element, type);
+    }
+
+    /**
+     * Method responsible for returning the Associations of a Element in a Adjacency Map.
+     * @param  map Adjacency Map.
+     * @param  element Element.
+     * @param  type Association Type, or null for all Types.
+     * @return Associations List.
+     */
+    private List<Association> get(HandleMap<HashMap<String, LinkedHashMap<String, Association>>> map, Element element, String type) {
+        List<Association> list  = new ArrayList<>();
+        HashMap<String, LinkedHashMap<String, Association>> types = map.get(this.getHandle(element));
+        if (types == null)
+            return list;
+        if (type != null) {
+            LinkedHashMap<String, Association> associations = types.get(NameIndex.getKey(type));
+            if (associations != null)
+                list.addAll(associations.values());
+        }else {
+            for (LinkedHashMap<String, Association> associations : types.values())
+                list.addAll(associations.values());
+        }
+        return list;
+    }
+
+    /**
+     * <p>Class of Model <b>Key</b>.</p>
+     * <p>Class responsible for <b>Keeping the Ends and the Type</b> of a indexed Association.</p>
+     */
+    private static final class Key {
+        private final int source;
+        private final int target;
+        private final String type;
+
+        /**
+         * Default constructor method of Class.
+         * @param source Source Handle.
+         * @param target Target Handle.
+         * @param type Association Type in Lower Case.
+         */
+        private Key(int source, int target, String type) {
+            this.source = source;
+            this.target = target;
+            this.type   = type;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package model.structural.base;
 import model.structural.base.association.Association;
 import model.structural.base.association.Generalization;
 import funct.FunctString;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -36,14 +37,33 @@ public abstract class Diagram implements Exportable {
     protected HashMap elements;
     protected HashMap associations;
     protected HashMap variabilities;
+    protected NameIndex names;
+    protected AssociationIndex adjacency;
+    protected VariabilityIndex variation;
+    protected Hierarchy hierarchy;
+    protected SortedView<Element> elementsView;
+    protected SortedView<Association> associationsView;
+    protected SortedView<Variability> variabilitiesView;
+    protected boolean dirty;
+    protected Integer version;
+    protected String  hash;
     
     /**
      * Default constructor method of Class.
      */
     public Diagram() {
-        this.elements      = new LinkedHashMap<>();
-        this.associations  = new LinkedHashMap<>();
-        this.variabilities = new LinkedHashMap<>();
+        this.elements          = new LinkedHashMap<>();
+        this.associations      = new LinkedHashMap<>();
+        this.variabilities     = new LinkedHashMap<>();
+        this.names             = new NameIndex();
+        this.adjacency         = new AssociationIndex();
+        this.variation         = new VariabilityIndex();
+        this.hierarchy         = new Hierarchy(this);
+        this.elementsView      = new SortedView<>(new ComparatorElement());
+        this.associationsView  = new SortedView<>(new ComparatorAssociation());
+        this.variabilitiesView = new SortedView<>(new ComparatorVariability());
+        this.dirty             = true;
+        this.version           = 0;
     }
     
     /**
@@ -149,6 +169,62 @@ public abstract class Diagram implements Exportable {
     public void setName(String name) {
         String string = new FunctString().getString(name);
         this.name     = string.isEmpty() ? this.name : string;
+        this.setDirty(true);
+    }
+    
+    /**
+     * Method responsible for returning if the Diagram changed since the last Save.
+     * @return Diagram changed.
+     */
+    public boolean isDirty() {
+        return this.dirty;
+    }
+    
+    /**
+     * Method responsible for defining the Diagram Dirty Flag.
+     * @param dirty Diagram changed since the last Save.
+     */
+    public void setDirty(boolean dirty) {
+        this.dirty = dirty;
+        if (dirty) {
+            this.hash    = null;
+            this.version = this.version + 1;
+        }
+    }
+    
+    /**
+     * Method responsible for returning the Diagram Version.
+     * The Version changes with every Change of the Diagram, so the Caches of the Elements can be checked against it.
+     * @return Diagram Version.
+     */
+    public Integer getVersion() {
+        return this.version;
+    }
+    
+    /**
+     * Method responsible for clearing the Sorted Views after a Change of the Order of the Diagram.
+     * Only Inserts, Removals and Changes of Name, Type or Sequence clear the Views, since Position and Size do not affect the Order.
+     */
+    public void clearViews() {
+        this.elementsView.clear();
+        this.associationsView.clear();
+        this.variabilitiesView.clear();
+    }
+    
+    /**
+     * Method responsible for returning the Diagram Content Hash.
+     * The Hash combines the Hashes of the Elements, Associations and Variabilities, and is cached until the Diagram changes.
+     * @return Diagram Content Hash.
+     */
+    public String getHash() {
+        if (this.hash == null) {
+            StringBuilder hashes = new StringBuilder();
+            try {
+                this.exportHashes(hashes);
+            } catch (IOException exception) {}
+            this.hash = new FunctString().md5(hashes.toString());
+        }
+        return this.hash;
     }
     
     /**
@@ -228,9 +304,7 @@ public abstract class Diagram implements Exportable {
      * @return Elements List.
      */
     public List<Element> getElementsList() {
-        List   list = new ArrayList<>(this.elements.values());
-               list.sort(new ComparatorElement());
-        return list;
+        return this.elementsView.getList(this.elements.values());
     }
     
     /**
@@ -267,12 +341,7 @@ public abstract class Diagram implements Exportable {
      * @return Entity found.
      */
     public Entity filterEntityByName(String name) {
-        for (Element element : this.getElementsList()) {
-            if (element instanceof Entity &&
-                element.getName().equalsIgnoreCase(name))
-                return (Entity) element;
-        }
-        return null;
+        return (Entity) this.filterByName(name, Entity.class);
     }
     
     /**
@@ -281,12 +350,38 @@ public abstract class Diagram implements Exportable {
      * @return Package UML found.
      */
     public PackageUML filterPackageUMLByName(String name) {
-        for (Element element : this.getElementsList()) {
-            if (element instanceof PackageUML &&
-                element.getName().equalsIgnoreCase(name))
-                return (PackageUML) element;
+        return (PackageUML) this.filterByName(name, PackageUML.class);
+    }
+    
+    /**
+     * Method responsible for returning the first Element of a Class by Name.
+     * The Elements are found in the Name Index, and the Elements with the same Name are ordered as in the Elements List.
+     * @param  name Element Name.
+     * @param  class_ Element Class.
+     * @return Element found.
+     */
+    private Element filterByName(String name, Class class_) {
+        List<Element> filter  = new ArrayList<>();
+        for (Element  element : this.names.get(NameIndex.getKey(name))) {
+            if (class_.isInstance(element) && element.getName().equalsIgnoreCase(name))
+                filter.add(element);
         }
-        return null;
+        if (filter.size() > 1)
+            filter.sort(new ComparatorElement());
+        return filter.isEmpty() ? null : filter.get(0);
+    }
+    
+    /**
+     * Method responsible for updating the Name Indexes of a Element after a Rename.
+     * @param element Element.
+     */
+    public void updateName(Element element) {
+        if (this.elements.get(element.getId()) != element)
+            return;
+        this.names.update(element, NameIndex.getKey(element.getName()));
+        this.clearViews();
+        if (this.project != null)
+            this.project.updateName(element);
     }
     
     /**
@@ -318,8 +413,11 @@ public abstract class Diagram implements Exportable {
      */
     public void addElement(Element element) {
         this.elements.put(element.getId(), element);
-        this.project.objects.put(element.getId(), element);
+        this.names.put(element, NameIndex.getKey(element.getName()));
+        this.project.addObject(element);
         this.project.addElementStereotype(element);
+        this.clearViews();
+        this.setDirty(true);
     }
     
     /**
@@ -342,8 +440,11 @@ public abstract class Diagram implements Exportable {
         this.project.removeTraceability(element);
         this.project.removeProduct(element);
         this.project.removeLinks(element);
-        this.project.objects.remove(element.getId());
+        this.project.removeObject(element);
+        this.names.remove(element);
         this.elements.remove(element.getId());
+        this.clearViews();
+        this.setDirty(true);
     }
     
     /**
@@ -351,7 +452,11 @@ public abstract class Diagram implements Exportable {
      * @param elements Elements List.
      */
     public void setElements(HashMap<String, Element> elements) {
-        this.elements = elements;
+        this.elements     = elements;
+        this.elementsView = new SortedView<>(new ComparatorElement());
+        this.names        = new NameIndex();
+        for (Element element : elements.values())
+            this.names.put(element, NameIndex.getKey(element.getName()));
     }
     
     /**
@@ -375,16 +480,59 @@ public abstract class Diagram implements Exportable {
      * @return Associations List.
      */
     public List filterAssociations(Element element, Class class_) {
-        List<Association> list   = this.getAssociationsList();
         List<Association> filter = new ArrayList<>();
-        for (int i = 0; i < list.size(); i++) {
-            if (list.get(i).getClass().equals(class_)
-            &&  list.get(i).contains(element))
-                filter.add(list.get(i));
+        for (Association association : this.getAssociations(element)) {
+            if (association.getClass().equals(class_))
+                filter.add(association);
         }
         return filter;
     }
     
+    /**
+     * Method responsible for returning the Associations of a Element.
+     * The Associations are found in the Adjacency Index and ordered as in the Associations List.
+     * @param  element Element.
+     * @return Associations List.
+     */
+    private List<Association> getAssociations(Element element) {
+        List<Association> list = this.adjacency.getOutgoing(element, null);
+        for (Association association : this.adjacency.getIncoming(element, null)) {
+            if (!association.isSource(element))
+                list.add(association);
+        }
+        return this.sort(list);
+    }
+    
+    /**
+     * Method responsible for sorting a Associations List as the Associations List.
+     * @param  list Associations List.
+     * @return Associations List sorted.
+     */
+    private List<Association> sort(List<Association> list) {
+        if (list.size() > 1)
+            list.sort(new ComparatorAssociation());
+        return list;
+    }
+    
+    /**
+     * Method responsible for updating the Adjacency Index after the Ends of a Association change.
+     * @param association Association.
+     */
+    public void updateAssociation(Association association) {
+        if ((this.associations.get(association.getId()) == association)
+        &&  (this.adjacency.update(association)))
+            this.updateHierarchy(association);
+    }
+    
+    /**
+     * Method responsible for clearing the Generalization Hierarchy after a Generalization changes.
+     * @param association Association.
+     */
+    private void updateHierarchy(Association association) {
+        if (association instanceof Generalization)
+            this.hierarchy.clear();
+    }
+    
     /**
      * Method responsible for returning a New Association Id.
      * @param  association Association.
@@ -407,9 +555,7 @@ public abstract class Diagram implements Exportable {
      * @return Associations List.
      */
     public List<Association> getAssociationsList() {
-        List   list = new ArrayList<>(this.associations.values());
-               list.sort(new ComparatorAssociation());
-        return list;
+        return this.associationsView.getList(this.associations.values());
     }
     
     /**
@@ -445,12 +591,7 @@ public abstract class Diagram implements Exportable {
      * @return Associations List.
      */
     public List<Association> getSourceAssociations(String type, Element target) {
-        List    filter = new ArrayList<>();
-        for (Association association : this.getAssociationsList()) {
-            if (association.getType().equalsIgnoreCase(type) && association.isTarget(target))
-                filter.add(association);
-        }
-        return  filter;
+        return this.sort(this.adjacency.getIncoming(target, type));
     }
     
     /**
@@ -460,12 +601,7 @@ public abstract class Diagram implements Exportable {
      * @return Associations List.
      */
     public List<Association> getTargetAssociations(String type, Element source) {
-        List    filter = new ArrayList<>();
-        for (Association association : this.getAssociationsList()) {
-            if (association.getType().equalsIgnoreCase(type) && association.isSource(source))
-                filter.add(association);
-        }
-        return  filter;
+        return this.sort(this.adjacency.getOutgoing(source, type));
     }
     
     /**
@@ -558,30 +694,45 @@ public abstract class Diagram implements Exportable {
     
     /**
      * Method responsible for returning the Super Generalization from a Element.
+     * The Super is cached by the Hierarchy until a Generalization changes.
      * @param  element Element.
      * @return Super Element.
      */
     public Element getSuper(Element element) {
-        for (Generalization generalization : this.getGeneralizationsList()) {
-            if (generalization.isSource(element))
-                return generalization.getTarget(element);
+        return this.hierarchy.getSuper(element);
+    }
+    
+    /**
+     * Method responsible for finding the Super Generalization from a Element in the Adjacency Index.
+     * @param  element Element.
+     * @return Super Element.
+     */
+    Element findSuper(Element element) {
+        for (Association association : this.sort(this.adjacency.getOutgoing(element, null))) {
+            if (association.getClass().equals(Generalization.class))
+                return ((Generalization) association).getTarget(element);
         }
         return null;
     }
     
     /**
      * Method responsible for returning the Supers List of a Element.
+     * The List is cached and shared until a Generalization changes.
      * @param  element Element.
-     * @return Supers List.
+     * @return Unmodifiable Supers List.
      */
     public List<Element> getSupers(Element element) {
-        List    list    = new ArrayList<>();
-        Element super_  = this.getSuper(element);
-        while  (super_ != null) {
-                list.add(super_);
-                super_  = this.getSuper(super_);
-        }    
-        return  list;
+        return this.hierarchy.getSupers(element);
+    }
+    
+    /**
+     * Method responsible for checking if a Element is Subtype of a Super Element.
+     * @param  element Element.
+     * @param  super_ Super Element.
+     * @return Super Element is in the Supers List of the Element.
+     */
+    public boolean isSubtype(Element element, Element super_) {
+        return this.hierarchy.isSubtype(element, super_);
     }
     
     /**
@@ -633,7 +784,11 @@ public abstract class Diagram implements Exportable {
      */
     public void addAssociation(Association association) {
         this.associations.put(association.getId(), association);
-        this.project.objects.put(association.getId(), association);
+        this.adjacency.put(association);
+        this.updateHierarchy(association);
+        this.project.addObject(association);
+        this.clearViews();
+        this.setDirty(true);
     }
     
     /**
@@ -651,8 +806,12 @@ public abstract class Diagram implements Exportable {
      */
     public void removeAssociation(Association association) {
         this.project.removeProduct(association);
-        this.project.objects.remove(association.getId());
+        this.project.removeObject(association);
+        this.adjacency.remove(association);
         this.associations.remove(association.getId());
+        this.updateHierarchy(association);
+        this.clearViews();
+        this.setDirty(true);
     }
     
     /**
@@ -660,10 +819,8 @@ public abstract class Diagram implements Exportable {
      * @param element Element.
      */
     private void removeAssociation(Element element) {
-        for (Association association : this.getAssociationsList()) {
-            if (association.contains(element))
-                this.removeAssociation(association);
-        }
+        for (Association association : this.getAssociations(element))
+            this.removeAssociation(association);
     }
     
     /**
@@ -683,7 +840,12 @@ public abstract class Diagram implements Exportable {
      * @param associations Associations List.
      */
     public void setAssociations(HashMap<String, Association> associations) {
-        this.associations = associations;
+        this.associations     = associations;
+        this.associationsView = new SortedView<>(new ComparatorAssociation());
+        this.adjacency        = new AssociationIndex();
+        this.hierarchy        = new Hierarchy(this);
+        for (Association association : associations.values())
+            this.adjacency.put(association);
     }
     
     /**
@@ -699,9 +861,7 @@ public abstract class Diagram implements Exportable {
      * @return Variabilities List.
      */
     public List<Variability> getVariabilitiesList() {
-        List   list = new ArrayList<>(this.variabilities.values());
-               list.sort(new ComparatorVariability());
-        return list;
+        return this.variabilitiesView.getList(this.variabilities.values());
     }
     
     /**
@@ -713,7 +873,11 @@ public abstract class Diagram implements Exportable {
         if (this.variabilities.get(variability.getId()) == null) {
             this.project.addVariability(variability);
             this.variabilities.put(variability.getId(), variability);
+            this.variation.put(variability);
+            variability.setDiagram(this);
         }
+        this.clearViews();
+        this.setDirty(true);
     }
     
     /**
@@ -732,6 +896,9 @@ public abstract class Diagram implements Exportable {
     public void removeVariability(Variability variability) {
         this.project.variabilities.remove(variability.getId());
         this.variabilities.remove(variability.getId());
+        this.variation.remove(variability);
+        this.clearViews();
+        this.setDirty(true);
     }
     
     /**
@@ -769,7 +936,40 @@ public abstract class Diagram implements Exportable {
      * @param variabilities Variabilities HashMap.
      */
     public void setVariabilities(HashMap<String, Variability> variabilities) {
-        this.variabilities = variabilities;
+        this.variabilities     = variabilities;
+        this.variabilitiesView = new SortedView<>(new ComparatorVariability());
+        this.variation         = new VariabilityIndex();
+        for (Variability variability : variabilities.values())
+            this.variation.put(variability);
+    }
+    
+    /**
+     * Method responsible for updating the Variation Point of a Variability in the Index.
+     * @param variability Variability.
+     */
+    public void updateVariationPoint(Variability variability) {
+        if (this.variabilities.get(variability.getId()) == variability)
+            this.variation.updateVariationPoint(variability);
+    }
+    
+    /**
+     * Method responsible for updating a Variant of a Variability in the Index.
+     * @param variability Variability.
+     * @param element Element.
+     * @param contains Element is Variant.
+     */
+    public void updateVariant(Variability variability, Element element, boolean contains) {
+        if (this.variabilities.get(variability.getId()) == variability)
+            this.variation.updateVariant(variability, element, contains);
+    }
+    
+    /**
+     * Method responsible for updating all Variants of a Variability in the Index.
+     * @param variability Variability.
+     */
+    public void updateVariants(Variability variability) {
+        if (this.variabilities.get(variability.getId()) == variability)
+            this.variation.put(variability);
     }
     
     /**
@@ -917,13 +1117,7 @@ public abstract class Diagram implements Exportable {
      * @return Variation Points.
      */
     public List<Variability> getVariationPoints(Element element) {
-        List<Variability> list   = this.getVariabilitiesList();
-        List<Variability> filter = new ArrayList<>();
-        for (int i = 0; i < list.size(); i++) {
-            if (list.get(i).getVariationPoint().equals(element))
-                filter.add(list.get(i));
-        }
-        return filter;
+        return this.variation.getVariationPoints(element);
     }
     
     /**
@@ -933,11 +1127,10 @@ public abstract class Diagram implements Exportable {
      * @return Variants List.
      */
     public List<Variability> filterVariants(Element element, String constraint) {
-        List<Variability> list   = this.getVariabilitiesList();
+        List<Variability> list   = this.variation.getVariants(element);
         List<Variability> filter = new ArrayList<>();
         for (int i = 0; i < list.size(); i++) {
-            if (list.get(i).getConstraint().toLowerCase().contains(constraint)
-            &&  list.get(i).isVariant(element))
+            if (list.get(i).getConstraint().toLowerCase().contains(constraint))
                 filter.add(list.get(i));
         }
         return filter;
@@ -971,61 +1164,89 @@ public abstract class Diagram implements Exportable {
     }
     
     /**
-     * Method responsible for returning Elements to export.
+     * Method responsible for exporting the Elements.
      * @param  elements Elements List.
-     * @return Elements to Export.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    protected String export(List<Element> elements) {
-        String export  = "";
+    protected void export(List<Element> elements, Appendable appendable) throws IOException {
         for (Element current : elements)
-               export += current.export();
-        return export;
+            current.export(appendable);
     }
     
     /**
-     * Method responsible for returning Elements to export.
-     * @return Elements to export.
+     * Method responsible for exporting the Elements.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    protected String exportElements() {
-        String export  = "";
+    protected void exportElements(Appendable appendable) throws IOException {
         for (Element element : this.getElementsList()) {
             if   ((element.getType().equals("attribute") == false)
               &&  (element.getType().equals("method")    == false))
-               export += element.export();
+               element.export(appendable);
         }
-        return export;
     }
     
     /**
-     * Method responsible for returning Associations to export.
-     * @return Associations to export.
+     * Method responsible for exporting the Associations.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    protected String exportAssociations() {
-        String export  = "";
+    protected void exportAssociations(Appendable appendable) throws IOException {
         for (Association association : this.getAssociationsList())
-               export += association.export();
-        return export;
+            association.export(appendable);
+    }
+    
+    /**
+     * Method responsible for exporting the Variabilities.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
+     */
+    protected void exportVariabilities(Appendable appendable) throws IOException {
+        for (Variability variability : this.getVariabilitiesList())
+            variability.export(appendable);
     }
     
     /**
-     * Method responsible for returning Variabilities to export.
-     * @return Variabilities to export.
+     * Method responsible for exporting the Hashes of the Diagram Content.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    protected String exportVariabilities() {
-        String export  = "";
+    protected void exportHashes(Appendable appendable) throws IOException {
+        this.exportHeader(appendable);
+        for (Element element : this.getElementsList())
+            appendable.append(element.getHash()).append("\n");
+        for (Association association : this.getAssociationsList())
+            appendable.append(association.getHash()).append("\n");
         for (Variability variability : this.getVariabilitiesList())
-               export += variability.export();
-        return export;
+            appendable.append(new FunctString().md5(variability.export())).append("\n");
+    }
+    
+    /**
+     * Method responsible for exporting the Diagram Header.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
+     */
+    protected void exportHeader(Appendable appendable) throws IOException {
+        appendable.append("  <diagram id=\"").append(this.id).append("\" name=\"").append(this.name).append("\" type=\"").append(this.type).append("\">\n");
     }
     
     @Override
     public String export() {
-        String export  = "  <diagram id=\"" + this.id + "\" name=\"" + this.name + "\" type=\"" + this.type + "\">\n";
-               export += this.exportElements();
-               export += this.exportAssociations();
-               export += this.exportVariabilities();
-               export += "  </diagram>\n";
-        return export;
+        StringBuilder export = new StringBuilder();
+        try {
+            this.export(export);
+        } catch (IOException exception) {}
+        return export.toString();
+    }
+    
+    @Override
+    public void export(Appendable appendable) throws IOException {
+        this.exportHeader(appendable);
+        this.exportElements(appendable);
+        this.exportAssociations(appendable);
+        this.exportVariabilities(appendable);
+        appendable.append("  </diagram>\n");
     }
     
     @Override
@@ -0,0 +1,127 @@
+package model.structural.base;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import model.structural.base.association.Association;
+import model.structural.base.variability.Variability;
+
+/**
+ * <p>Class of Model <b>DiagramHandle</b>.</p>
+ * <p>Class responsible for representing a <b>Diagram not yet loaded</b> in SMartyModeling.</p>
+ * <p>The Handle keeps the Diagram Id, Name, Type, Elements Count and the Ids declared in the Diagram. The full Diagram is materialized by the Project on first access, and the Handle delegates its Content to the materialized Diagram.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    model.structural.base.Diagram
+ * @see    model.structural.base.interfaces.Hydrator
+ */
+public class DiagramHandle extends Diagram {
+    private Integer size;
+    private final Set<String> ids;
+
+    /**
+     * Alternative constructor method of Class.
+     * @param project Project.
+     * @param element W3C Element.
+     */
+    public DiagramHandle(Project project, org.w3c.dom.Element element) {
+        super(project, element);
+        this.size  = 0;
+        this.ids   = new HashSet<>();
+        this.dirty = false;
+    }
+
+    @Override
+    public void init() {}
+
+    /**
+     * Method responsible for returning the Elements Count.
+     * @return Elements Count.
+     */
+    public Integer getSize() {
+        return this.size;
+    }
+
+    /**
+     * Method responsible for adding a Id declared in the Diagram.
+     * @param id Object Id.
+     * @param element Object is a Element.
+     */
+    public void addId(String id, boolean element) {
+        this.ids.add(id);
+        this.project.declareId(id);
+        if (element)
+            this.size++;
+    }
+
+    /**
+     * Method responsible for returning if a Id is declared in the Diagram.
+     * @param  id Object Id.
+     * @return Id is declared in the Diagram.
+     */
+    public boolean contains(String id) {
+        return this.ids.contains(id);
+    }
+
+    /**
+     * Method responsible for returning the Ids declared in the Diagram.
+     * @return Ids declared in the Diagram.
+     */
+    public Set<String> getIds() {
+        return this.ids;
+    }
+
+    /**
+     * Method responsible for returning the materialized Diagram.
+     * @return Materialized Diagram.
+     */
+    public Diagram getDiagram() {
+        return this.project.getDiagram(this.id);
+    }
+
+    @Override
+    public List<Element> getElementsList() {
+        return this.getDiagram().getElementsList();
+    }
+
+    @Override
+    public List<Association> getAssociationsList() {
+        return this.getDiagram().getAssociationsList();
+    }
+
+    @Override
+    public List<Variability> getVariabilitiesList() {
+        return this.getDiagram().getVariabilitiesList();
+    }
+
+    @Override
+    public String getIcon() {
+        return this.getDiagram().getIcon();
+    }
+
+    @Override
+    public String getInstanceIcon() {
+        return this.getDiagram().getInstanceIcon();
+    }
+
+    @Override
+    public Diagram getClone() {
+        return this.getDiagram().getClone();
+    }
+
+    @Override
+    public String getHash() {
+        return this.getDiagram().getHash();
+    }
+
+    @Override
+    public String export() {
+        return this.getDiagram().export();
+    }
+
+    @Override
+    public void export(Appendable appendable) throws IOException {
+        this.getDiagram().export(appendable);
+    }
+}
\ No newline at end of file
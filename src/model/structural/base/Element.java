@@ -2,6 +2,7 @@ package model.structural.base;
 
 import funct.FunctString;
 import java.awt.Point;
+import java.io.IOException;
 import java.util.Objects;
 import model.structural.base.interfaces.Exportable;
 import model.structural.base.interfaces.Modelable;
@@ -23,6 +24,9 @@ public abstract class Element implements Exportable, Modelable {
     protected Point   position;
     protected Point   global;
     protected Point   size;
+    private   String  hash;
+    private   String  fragment;
+    private final int handle;
     
     /**
      * Default constructor method of Class.
@@ -30,6 +34,7 @@ public abstract class Element implements Exportable, Modelable {
      */
     public Element(Diagram diagram) {
         super();
+        this.handle    = HandleMap.nextHandle();
         this.diagram   = diagram;
         this.mandatory = true;
         this.position  = new Point(0, 0);
@@ -63,6 +68,15 @@ public abstract class Element implements Exportable, Modelable {
         this.setSize(element);
     }
     
+    /**
+     * Method responsible for returning the Element Handle.
+     * The Handle is a Integer kept alongside the Id and used as Key by the Internal Indexes.
+     * @return Element Handle.
+     */
+    public int getHandle() {
+        return this.handle;
+    }
+    
     /**
      * Method responsible for returning the Diagram Element.
      * @return Diagram Element.
@@ -86,6 +100,38 @@ public abstract class Element implements Exportable, Modelable {
     public void setDiagram(Diagram diagram) {
         this.diagram = diagram;
     }
+
+    /**
+     * Method responsible for marking the Element and its Diagram as changed.
+     */
+    public void setDirty() {
+        this.hash     = null;
+        this.fragment = null;
+        if (this.diagram != null)
+            this.diagram.setDirty(true);
+    }
+    
+    /**
+     * Method responsible for returning the Element Content Hash.
+     * The Hash is cached until the Element changes.
+     * @return Element Content Hash.
+     */
+    public String getHash() {
+        if (this.hash == null)
+            this.hash = new FunctString().md5(this.getFragment());
+        return this.hash;
+    }
+    
+    /**
+     * Method responsible for returning the Element Export Fragment.
+     * The Fragment is cached until the Element changes, so a Save of a unchanged Element only copies it.
+     * @return Element Export Fragment.
+     */
+    public String getFragment() {
+        if (this.fragment == null)
+            this.fragment = this.export();
+        return this.fragment;
+    }
     
     /**
      * Method responsible for returning the Element Id.
@@ -137,6 +183,16 @@ public abstract class Element implements Exportable, Modelable {
     public void setName(String name) {
         String string = new FunctString().getString(name);
         this.name     = string.isEmpty() ? this.name : string;
+        this.updateName();
+        this.setDirty();
+    }
+    
+    /**
+     * Method responsible for updating the Name Indexes after the Element Name changes.
+     */
+    public void updateName() {
+        if (this.diagram != null)
+            this.diagram.updateName(this);
     }
     
     /**
@@ -152,7 +208,13 @@ public abstract class Element implements Exportable, Modelable {
      * @param type Element Type.
      */
     public void setType(String type) {
-        this.type = type;
+        String old  = this.type;
+        this.type   = type;
+        if ((this.diagram != null) && (this.diagram.getProject() != null))
+            this.diagram.getProject().updateType(this, old);
+        if (this.diagram != null)
+            this.diagram.clearViews();
+        this.setDirty();
     }
 
     /**
@@ -177,6 +239,7 @@ public abstract class Element implements Exportable, Modelable {
      */
     public void setMandatory(boolean mandatory) {
         this.mandatory = mandatory;
+        this.setDirty();
     }
     
     /**
@@ -216,6 +279,7 @@ public abstract class Element implements Exportable, Modelable {
             this.position.x  = 0;
         else
             this.position.x += distance;
+        this.setDirty();
     }
     
     /**
@@ -235,6 +299,7 @@ public abstract class Element implements Exportable, Modelable {
             this.position.y  = 0;
         else
             this.position.y += distance;
+        this.setDirty();
     }
     
     /**
@@ -258,6 +323,7 @@ public abstract class Element implements Exportable, Modelable {
      */
     public void setPosition(Integer x, Integer y) {
         this.position = new Point(x, y);
+        this.setDirty();
     }
     
     /**
@@ -266,6 +332,7 @@ public abstract class Element implements Exportable, Modelable {
      */
     public void setPosition(Point position) {
         this.position = position;
+        this.setDirty();
     }
 
     /**
@@ -297,6 +364,7 @@ public abstract class Element implements Exportable, Modelable {
      */
     public void setGlobalPosition(Integer x, Integer y) {
         this.global = new Point(x, y);
+        this.setDirty();
     }
     
     /**
@@ -305,6 +373,7 @@ public abstract class Element implements Exportable, Modelable {
      */
     public void setGlobalPosition(Point global) {
         this.global = global;
+        this.setDirty();
     }
     
     /**
@@ -324,6 +393,7 @@ public abstract class Element implements Exportable, Modelable {
             this.global.x  = 0;
         else
             this.global.x += distance;
+        this.setDirty();
     }
     
     /**
@@ -332,6 +402,7 @@ public abstract class Element implements Exportable, Modelable {
      */
     public void setGlobalX(Integer x) {
         this.global.x = x;
+        this.setDirty();
     }
     
     /**
@@ -351,6 +422,7 @@ public abstract class Element implements Exportable, Modelable {
             this.global.y  = 0;
         else
             this.global.y += distance;
+        this.setDirty();
     }
     
     /**
@@ -359,6 +431,7 @@ public abstract class Element implements Exportable, Modelable {
      */
     public void setGlobalY(Integer y) {
         this.global.y = y;
+        this.setDirty();
     }
     
     /**
@@ -399,6 +472,7 @@ public abstract class Element implements Exportable, Modelable {
      */
     public void setHeight(Integer height) {
         this.size.y = height;
+        this.setDirty();
     }
     
     /**
@@ -415,6 +489,7 @@ public abstract class Element implements Exportable, Modelable {
      */
     public void setWidth(Integer width) {
         this.size.x = width;
+        this.setDirty();
     }
     
     /**
@@ -438,6 +513,7 @@ public abstract class Element implements Exportable, Modelable {
      */
     public void setSize(Integer width, Integer height) {
         this.size = new Point(height, width);
+        this.setDirty();
     }
     
     /**
@@ -446,6 +522,7 @@ public abstract class Element implements Exportable, Modelable {
      */
     public void setSize(Point size) {
         this.size = size;
+        this.setDirty();
     }
     
     @Override
@@ -499,6 +576,11 @@ public abstract class Element implements Exportable, Modelable {
         return export;
     }
     
+    @Override
+    public void export(Appendable appendable) throws IOException {
+        appendable.append(this.getFragment());
+    }
+    
     @Override
     public boolean equals(Object object) {
         if (object instanceof Element == false)
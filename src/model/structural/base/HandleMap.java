@@ -0,0 +1,221 @@
+package model.structural.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Class of Model <b>HandleMap</b>.</p>
+ * <p>Class responsible for <b>Mapping the Handles of the Model Objects</b> in SMartyModeling.</p>
+ * <p>The Map keeps the Handles in a Open Addressing Table of Primitive Keys with Linear Probing, so a Lookup neither hashes a String Id nor boxes the Key. The Handles are allocated for the whole Application without a Lock, so two Model Objects never share a Handle, even when they are created without a Project.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @param  <V> Value Type.
+ * @see    model.structural.base.Element
+ * @see    model.structural.base.association.Association
+ */
+public class HandleMap<V> {
+    private static final AtomicInteger HANDLES = new AtomicInteger();
+    private int[]   keys;
+    private V[]     values;
+    private int     size;
+    private V       zero;
+    private boolean hasZero;
+
+    /**
+     * Default constructor method of Class.
+     */
+    public HandleMap() {
+        this.keys    = new int[16];
+        this.values  = this.newValues(16);
+        this.size    = 0;
+        this.zero    = null;
+        this.hasZero = false;
+    }
+
+    /**
+     * Method responsible for returning a New Handle.
+     * @return New Handle.
+     */
+    public static int nextHandle() {
+        return HANDLES.incrementAndGet();
+    }
+
+    /**
+     * Method responsible for returning a New Values Array.
+     * @param  capacity Array Capacity.
+     * @return New Values Array.
+     */
+    @SuppressWarnings("unchecked")
+    private V[] newValues(int capacity) {
+        return (V[]) new Object[capacity];
+    }
+
+    /**
+     * Method responsible for returning the First Slot of a Key.
+     * @param  key Key.
+     * @return First Slot.
+     */
+    private int getSlot(int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (this.keys.length - 1);
+    }
+
+    /**
+     * Method responsible for returning the Slot of a Key, or the Empty Slot where it would be.
+     * @param  key Key.
+     * @return Slot.
+     */
+    private int find(int key) {
+        int slot = this.getSlot(key);
+        while ((this.keys[slot] != 0) && (this.keys[slot] != key))
+            slot = (slot + 1) & (this.keys.length - 1);
+        return slot;
+    }
+
+    /**
+     * Method responsible for returning the Value of a Key.
+     * @param  key Key.
+     * @return Value, or null if the Key is not mapped.
+     */
+    public V get(int key) {
+        if (key == 0)
+            return this.zero;
+        return this.values[this.find(key)];
+    }
+
+    /**
+     * Method responsible for checking if a Key is mapped.
+     * @param  key Key.
+     * @return Key is mapped.
+     */
+    public boolean containsKey(int key) {
+        if (key == 0)
+            return this.hasZero;
+        return this.keys[this.find(key)] != 0;
+    }
+
+    /**
+     * Method responsible for mapping a Value to a Key.
+     * @param  key Key.
+     * @param  value Value.
+     * @return Previous Value, or null if the Key was not mapped.
+     */
+    public V put(int key, V value) {
+        if (key == 0) {
+            V previous   = this.zero;
+            this.size   += this.hasZero ? 0 : 1;
+            this.zero    = value;
+            this.hasZero = true;
+            return previous;
+        }
+        int slot = this.find(key);
+        if (this.keys[slot] == key) {
+            V previous        = this.values[slot];
+            this.values[slot] = value;
+            return previous;
+        }
+        this.keys[slot]   = key;
+        this.values[slot] = value;
+        this.size++;
+        if (this.size * 4 >= this.keys.length * 3)
+            this.resize(this.keys.length * 2);
+        return null;
+    }
+
+    /**
+     * Method responsible for removing a Key.
+     * The Following Keys of the Probe Sequence are shifted back, so no Deleted Markers are left in the Table.
+     * @param  key Key.
+     * @return Removed Value, or null if the Key was not mapped.
+     */
+    public V remove(int key) {
+        if (key == 0) {
+            V previous   = this.zero;
+            this.size   -= this.hasZero ? 1 : 0;
+            this.zero    = null;
+            this.hasZero = false;
+            return previous;
+        }
+        int slot = this.find(key);
+        if (this.keys[slot] == 0)
+            return null;
+        V   previous = this.values[slot];
+        int mask     = this.keys.length - 1;
+        int next     = (slot + 1) & mask;
+        while (this.keys[next] != 0) {
+            int home = this.getSlot(this.keys[next]);
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                this.keys[slot]   = this.keys[next];
+                this.values[slot] = this.values[next];
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        this.keys[slot]   = 0;
+        this.values[slot] = null;
+        this.size--;
+        return previous;
+    }
+
+    /**
+     * Method responsible for resizing the Table.
+     * @param capacity New Capacity.
+     */
+    private void resize(int capacity) {
+        int[] oldKeys   = this.keys;
+        V[]   oldValues = this.values;
+        this.keys   = new int[capacity];
+        this.values = this.newValues(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = this.find(oldKeys[i]);
+                this.keys[slot]   = oldKeys[i];
+                this.values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Method responsible for returning the Number of Keys.
+     * @return Number of Keys.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Method responsible for checking if the Map is empty.
+     * @return Map is empty.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Method responsible for removing all Keys.
+     */
+    public void clear() {
+        Arrays.fill(this.keys, 0);
+        Arrays.fill(this.values, null);
+        this.size    = 0;
+        this.zero    = null;
+        this.hasZero = false;
+    }
+
+    /**
+     * Method responsible for returning the Values List.
+     * @return Values List.
+     */
+    public List<V> values() {
+        List<V> list = new ArrayList<>(this.size);
+        if (this.hasZero)
+            list.add(this.zero);
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != 0)
+                list.add(this.values[i]);
+        }
+        return list;
+    }
+}
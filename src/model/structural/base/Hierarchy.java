@@ -0,0 +1,138 @@
+package model.structural.base;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>Class of Model <b>Hierarchy</b>.</p>
+ * <p>Class responsible for <b>Caching the Generalization Hierarchy</b> of a Diagram in SMartyModeling.</p>
+ * <p>The Hierarchy keeps the Super of each Element and its Supers List, and labels the Elements with Preorder and Postorder Intervals, so a Subtype Check is a Comparison of Intervals. The Elements are keyed by their Handles. The Hierarchy is cleared by the Diagram when a Generalization changes and is built again on the next Call.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    model.structural.base.Diagram
+ */
+class Hierarchy {
+    private final Diagram diagram;
+    private final HandleMap<Element> supers;
+    private final HandleMap<List<Element>> ancestors;
+    private HandleMap<int[]> intervals;
+
+    /**
+     * Default constructor method of Class.
+     * @param diagram Diagram.
+     */
+    public Hierarchy(Diagram diagram) {
+        this.diagram   = diagram;
+        this.supers    = new HandleMap<>();
+        this.ancestors = new HandleMap<>();
+        this.intervals = null;
+    }
+
+    /**
+     * Method responsible for returning the Super of a Element.
+     * @param  element Element.
+     * @return Super Element.
+     */
+    public Element getSuper(Element element) {
+        if (!this.supers.containsKey(element.getHandle()))
+            this.supers.put(element.getHandle(), this.diagram.findSuper(element));
+        return this.supers.get(element.getHandle());
+    }
+
+    /**
+     * Method responsible for returning the Supers List of a Element.
+     * The List stops before a Element already visited, so a Cycle of Generalizations ends the List.
+     * @param  element Element.
+     * @return Supers List.
+     */
+    public List<Element> getSupers(Element element) {
+        List<Element> list = this.ancestors.get(element.getHandle());
+        if (list == null) {
+            List<Element> supers  = new ArrayList<>();
+            Set<Integer>  visited = new HashSet<>();
+                          visited.add(element.getHandle());
+            Element super_ = this.getSuper(element);
+            while ((super_ != null) && (visited.add(super_.getHandle()))) {
+                supers.add(super_);
+                super_ = this.getSuper(super_);
+            }
+            list = Collections.unmodifiableList(supers);
+            this.ancestors.put(element.getHandle(), list);
+        }
+        return list;
+    }
+
+    /**
+     * Method responsible for checking if a Element is Subtype of a Super Element.
+     * @param  element Element.
+     * @param  super_ Super Element.
+     * @return Element is Subtype.
+     */
+    public boolean isSubtype(Element element, Element super_) {
+        if ((element == null) || (super_ == null))
+            return false;
+        if (this.intervals == null)
+            this.label();
+        int[] interval = this.intervals.get(element.getHandle());
+        int[] outer    = this.intervals.get(super_.getHandle());
+        if ((interval == null) || (outer == null))
+            return this.getSupers(element).contains(super_);
+        return (outer[0] < interval[0]) && (interval[1] < outer[1]);
+    }
+
+    /**
+     * Method responsible for labeling the Elements with Preorder and Postorder Intervals.
+     * The Elements of a Cycle are not labeled.
+     */
+    private void label() {
+        HandleMap<List<Element>> children = new HandleMap<>();
+        List<Element> roots = new ArrayList<>();
+        for (Element element : this.diagram.getElementsList()) {
+            Element super_ = this.getSuper(element);
+            if (super_ == null) {
+                roots.add(element);
+            }else {
+                if (!children.containsKey(super_.getHandle()))
+                    children.put(super_.getHandle(), new ArrayList<>());
+                children.get(super_.getHandle()).add(element);
+            }
+        }
+        this.intervals = new HandleMap<>();
+        int counter = 0;
+        for (Element root : roots) {
+            List<Element> stack = new ArrayList<>();
+            List<Integer> next  = new ArrayList<>();
+            stack.add(root);
+            next.add(0);
+            this.intervals.put(root.getHandle(), new int[] {counter++, 0});
+            while (!stack.isEmpty()) {
+                int           top     = stack.size() - 1;
+                List<Element> current = children.get(stack.get(top).getHandle());
+                if ((current != null) && (next.get(top) < current.size())) {
+                    Element child = current.get(next.get(top));
+                    next.set(top, next.get(top) + 1);
+                    if (!this.intervals.containsKey(child.getHandle())) {
+                        this.intervals.put(child.getHandle(), new int[] {counter++, 0});
+                        stack.add(child);
+                        next.add(0);
+                    }
+                }else {
+                    this.intervals.get(stack.remove(top).getHandle())[1] = counter++;
+                    next.remove(top);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method responsible for clearing the Hierarchy after a Generalization changes.
+     */
+    public void clear() {
+        this.supers.clear();
+        this.ancestors.clear();
+        this.intervals = null;
+    }
+}
@@ -0,0 +1,58 @@
+package model.structural.base;
+
+import java.util.HashMap;
+
+/**
+ * <p>Class of Model <b>IdAllocator</b>.</p>
+ * <p>Class responsible for <b>Allocating the Ids by Label</b> in SMartyModeling.</p>
+ * <p>Each Label keeps a Counter with the Greatest Numeric Suffix declared or allocated, so a New Id is found without probing the Ids already in use.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    model.structural.base.Project
+ * @see    model.structural.base.product.Product
+ * @see    model.structural.base.product.Instance
+ */
+public class IdAllocator {
+    private final HashMap<String, Integer> counters;
+
+    /**
+     * Default constructor method of Class.
+     */
+    public IdAllocator() {
+        this.counters = new HashMap<>();
+    }
+
+    /**
+     * Method responsible for declaring a Id in use, raising the Counter of its Label to its Numeric Suffix.
+     * @param id Id in use.
+     */
+    public void declare(String id) {
+        if (id == null)
+            return;
+        int split = id.lastIndexOf('#') + 1;
+        if ((split == 0) || (split == id.length()) || (id.length() - split > 9))
+            return;
+        int suffix = 0;
+        for (int i = split; i < id.length(); i++) {
+            if (!Character.isDigit(id.charAt(i)))
+                return;
+            suffix = suffix * 10 + Character.digit(id.charAt(i), 10);
+        }
+        String  label   = id.substring(0, split);
+        Integer counter = this.counters.get(label);
+        if ((counter == null) || (counter < suffix))
+            this.counters.put(label, suffix);
+    }
+
+    /**
+     * Method responsible for returning the Next Numeric Suffix of a Label.
+     * @param  label Id Label.
+     * @return Next Numeric Suffix.
+     */
+    public Integer next(String label) {
+        Integer counter = this.counters.get(label);
+        Integer next    = (counter == null) ? 1 : counter + 1;
+        this.counters.put(label, next);
+        return next;
+    }
+}
@@ -0,0 +1,88 @@
+package model.structural.base;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * <p>Class of Model <b>NameIndex</b>.</p>
+ * <p>Class responsible for <b>Indexing the Elements by a Normalized Name Key</b> in SMartyModeling.</p>
+ * <p>The Index keeps the Key of each Element by its Handle, so a Element can be moved to its New Key after a Rename without knowing its Old Name.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    model.structural.base.Diagram
+ * @see    model.structural.base.Project
+ */
+class NameIndex {
+    private final HashMap<String, LinkedHashMap<String, Element>> elements;
+    private final HandleMap<String> keys;
+
+    /**
+     * Default constructor method of Class.
+     */
+    public NameIndex() {
+        this.elements = new HashMap<>();
+        this.keys     = new HandleMap<>();
+    }
+
+    /**
+     * Method responsible for returning the Normalized Key of a Name.
+     * @param  name Name.
+     * @return Normalized Key.
+     */
+    public static String getKey(String name) {
+        return (name == null) ? "" : name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Method responsible for adding a Element by Key.
+     * @param element Element.
+     * @param key Normalized Key.
+     */
+    public void put(Element element, String key) {
+        this.remove(element);
+        LinkedHashMap<String, Element> index = this.elements.get(key);
+        if (index == null) {
+            index = new LinkedHashMap<>();
+            this.elements.put(key, index);
+        }
+        index.put(element.getId(), element);
+        this.keys.put(element.getHandle(), key);
+    }
+
+    /**
+     * Method responsible for moving a indexed Element to a New Key.
+     * @param element Element.
+     * @param key New Normalized Key.
+     */
+    public void update(Element element, String key) {
+        if (this.keys.containsKey(element.getHandle()))
+            this.put(element, key);
+    }
+
+    /**
+     * Method responsible for removing a Element.
+     * @param element Element.
+     */
+    public void remove(Element element) {
+        String key = this.keys.remove(element.getHandle());
+        if (key == null)
+            return;
+        LinkedHashMap<String, Element> index = this.elements.get(key);
+        index.remove(element.getId());
+        if (index.isEmpty())
+            this.elements.remove(key);
+    }
+
+    /**
+     * Method responsible for returning the Elements of a Key.
+     * @param  key Normalized Key.
+     * @return Elements List.
+     */
+    public List<Element> get(String key) {
+        LinkedHashMap<String, Element> index = this.elements.get(key);
+        return (index == null) ? new ArrayList<>() : new ArrayList<>(index.values());
+    }
+}
@@ -4,14 +4,30 @@ import model.structural.base.association.Association;
 import funct.FunctDate;
 import funct.FunctString;
 //import funct.evaluation.base.EvaluationProject;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import model.comparator.structural.base.ComparatorDiagram;
 import model.comparator.structural.base.ComparatorElement;
 import model.comparator.structural.base.ComparatorStereotype;
@@ -21,6 +37,7 @@ import model.structural.base.association.Link;
 import model.structural.base.evaluation.Measure;
 import model.structural.base.evaluation.Metric;
 import model.structural.base.interfaces.Exportable;
+import model.structural.base.interfaces.Hydrator;
 import model.structural.base.product.Artifact;
 import model.structural.base.product.Instance;
 import model.structural.base.product.Product;
@@ -43,6 +60,7 @@ import model.structural.diagram.usecase.base.ActorUML;
  * @see    model.structural.base.interfaces.Exportable
  */
 public class Project implements Exportable {
+    public static final String[] SECTIONS = {"project", "types", "stereotypes", "profile", "diagrams", "requirements", "traceabilities", "links", "products", "metrics", "measures"};
     private String  id;
     private String  name;
     private String  path;
@@ -59,6 +77,25 @@ public class Project implements Exportable {
     public  HashMap stereotypes;
     public  HashMap links;
     public  HashMap objects;
+    private HashMap<String, Element> elements;
+    private HashMap<String, Association> associations;
+    private HashMap<String, LinkedHashMap<String, Element>> elementTypes;
+    private HashMap<String, LinkedHashMap<String, Association>> associationTypes;
+    private NameIndex names;
+    private HandleMap<LinkedHashMap<String, Link>> elementLinks;
+    private HashMap<String, LinkedHashMap<String, Link>> stereotypeLinks;
+    private HandleMap<LinkedHashMap<String, Traceability>> elementTraceabilities;
+    private HandleMap<LinkedHashMap<String, Requirement>> elementRequirements;
+    private HandleMap<LinkedHashMap<String, Product>> elementProducts;
+    private HashMap<String, LinkedHashMap<String, TypeUML>> typeNames;
+    private HashMap<String, LinkedHashMap<String, TypeUML>> typeSignatures;
+    private HashMap<String, String[]> typeKeys;
+    private IdAllocator ids;
+    private SortedView<TypeUML> typesView;
+    private SortedView<Stereotype> stereotypesView;
+    private SortedView<Link> linksView;
+    private Hydrator hydrator;
+    private HashSet<String> dirty;
     
     /**
      * Default constructor method of Class.
@@ -90,6 +127,7 @@ public class Project implements Exportable {
      * Method responsible for initializing the HashMaps.
      */
     private void init() {
+        this.dirty          = new HashSet<>();
         this.diagrams       = new LinkedHashMap();
         this.types          = new LinkedHashMap();
         this.variabilities  = new LinkedHashMap();
@@ -100,7 +138,24 @@ public class Project implements Exportable {
         this.products       = new LinkedHashMap();
         this.stereotypes    = new LinkedHashMap();
         this.links          = new LinkedHashMap();
-        this.objects        = new LinkedHashMap();
+        this.objects          = new LinkedHashMap();
+        this.elements         = new LinkedHashMap<>();
+        this.associations     = new LinkedHashMap<>();
+        this.elementTypes     = new HashMap<>();
+        this.associationTypes = new HashMap<>();
+        this.names            = new NameIndex();
+        this.elementLinks     = new HandleMap<>();
+        this.stereotypeLinks  = new HashMap<>();
+        this.elementTraceabilities = new HandleMap<>();
+        this.elementRequirements   = new HandleMap<>();
+        this.elementProducts       = new HandleMap<>();
+        this.typeNames        = new HashMap<>();
+        this.typeSignatures   = new HashMap<>();
+        this.typeKeys         = new HashMap<>();
+        this.ids              = new IdAllocator();
+        this.typesView        = new SortedView<>(new ComparatorTypeUML());
+        this.stereotypesView  = new SortedView<>(new ComparatorStereotype());
+        this.linksView        = new SortedView<>(new ComparatorLink());
         this.profile        = this.getDefaultProfile();
     }
     
@@ -135,13 +190,20 @@ public class Project implements Exportable {
      * @return Next Id.
      */
     public String nextId(String label) {
-        Integer index  = this.objects.size() + 1;
-        String  nextId = label + index;
-        while (this.objects.get(nextId) != null)
-                nextId = label + ++index;
+        String  nextId = label + this.ids.next(label);
+        while ((this.objects.get(nextId) != null) || this.isDeclared(nextId))
+                nextId = label + this.ids.next(label);
         return  nextId;
     }
     
+    /**
+     * Method responsible for declaring a Id in use, so the Next Ids of its Label start after it.
+     * @param id Object Id.
+     */
+    public void declareId(String id) {
+        this.ids.declare(id);
+    }
+    
     /**
      * Method responsible for returning the Project Id.
      * @return Project Id.
@@ -173,6 +235,7 @@ public class Project implements Exportable {
     public void setName(String name) {
         String string = new FunctString().getString(name);
         this.name     = string.isEmpty() ? this.name : string;
+        this.setDirty("project");
     }
 
     /**
@@ -205,6 +268,7 @@ public class Project implements Exportable {
      */
     public void setVersion(String version) {
         this.version = version;
+        this.setDirty("project");
     }
     
     /**
@@ -221,27 +285,172 @@ public class Project implements Exportable {
      */
     public void setProfile(Profile profile) {
         this.profile = profile;
+        this.setDirty("profile");
     }
     
     /**
-     * Method responsible for returning the Elements List.
-     * @return Elements List.
+     * Method responsible for marking a Project Section as changed.
+     * @param section Project Section.
      */
-    public List<Element> getElementsList() {
+    public void setDirty(String section) {
+        this.dirty.add(section);
+    }
+    
+    /**
+     * Method responsible for returning if a Project Section changed since the last Save.
+     * @param  section Project Section.
+     * @return Project Section changed.
+     */
+    public boolean isDirty(String section) {
+        return this.dirty.contains(section);
+    }
+    
+    /**
+     * Method responsible for returning if the Project changed since the last Save.
+     * @return Project changed.
+     */
+    public boolean isDirty() {
+        if (!this.dirty.isEmpty())
+            return true;
+        for (Object diagram : this.diagrams.values()) {
+            if (((Diagram) diagram).isDirty())
+                return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Method responsible for returning the Diagrams changed since the last Save.
+     * @return Dirty Diagrams List.
+     */
+    public List<Diagram> getDirtyDiagrams() {
         List   list = new ArrayList<>();
-        for (Object object : this.objects.values()) {
-            if (object instanceof Element)
-               list.add((Element) object);
+        for (Object diagram : this.diagrams.values()) {
+            if (((Diagram) diagram).isDirty())
+               list.add(diagram);
         }
         return list;
     }
     
+    /**
+     * Method responsible for marking a Project Section as saved.
+     * @param section Project Section.
+     */
+    public void setClean(String section) {
+        this.dirty.remove(section);
+    }
+    
+    /**
+     * Method responsible for marking the Project and its Diagrams as saved.
+     */
+    public void setClean() {
+        this.dirty.clear();
+        for (Object diagram : this.diagrams.values())
+            ((Diagram) diagram).setDirty(false);
+    }
+    
+    /**
+     * Method responsible for adding a Element to the Project Objects and to the Elements Indexes.
+     * @param element Element.
+     */
+    public void addObject(Element element) {
+        this.objects.put(element.getId(), element);
+        this.ids.declare(element.getId());
+        this.elements.put(element.getId(), element);
+        this.getIndex(this.elementTypes, element.getType()).put(element.getId(), element);
+        this.names.put(element, this.getNameKey(element.getType(), element.getName()));
+    }
+    
+    /**
+     * Method responsible for removing a Element from the Project Objects and from the Elements Indexes.
+     * @param element Element.
+     */
+    public void removeObject(Element element) {
+        this.objects.remove(element.getId());
+        this.elements.remove(element.getId());
+        this.getIndex(this.elementTypes, element.getType()).remove(element.getId());
+        this.names.remove(element);
+    }
+    
+    /**
+     * Method responsible for adding a Association to the Project Objects and to the Associations Indexes.
+     * @param association Association.
+     */
+    public void addObject(Association association) {
+        this.objects.put(association.getId(), association);
+        this.ids.declare(association.getId());
+        this.associations.put(association.getId(), association);
+        this.getIndex(this.associationTypes, association.getType()).put(association.getId(), association);
+    }
+    
+    /**
+     * Method responsible for removing a Association from the Project Objects and from the Associations Indexes.
+     * @param association Association.
+     */
+    public void removeObject(Association association) {
+        this.objects.remove(association.getId());
+        this.associations.remove(association.getId());
+        this.getIndex(this.associationTypes, association.getType()).remove(association.getId());
+    }
+    
+    /**
+     * Method responsible for moving a Element to the Index of its New Type.
+     * @param element Element.
+     * @param type Old Element Type.
+     */
+    public void updateType(Element element, String type) {
+        if (this.getIndex(this.elementTypes, type).remove(element.getId()) != null)
+            this.getIndex(this.elementTypes, element.getType()).put(element.getId(), element);
+        this.updateName(element);
+    }
+    
+    /**
+     * Method responsible for moving a Element to the Name Index of its New Name.
+     * @param element Element.
+     */
+    public void updateName(Element element) {
+        this.names.update(element, this.getNameKey(element.getType(), element.getName()));
+    }
+    
+    /**
+     * Method responsible for returning the Name Index Key of a Element Type and Name.
+     * @param  type Element Type.
+     * @param  name Element Name.
+     * @return Name Index Key.
+     */
+    private String getNameKey(String type, String name) {
+        return NameIndex.getKey(type) + "#" + NameIndex.getKey(name);
+    }
+    
+    /**
+     * Method responsible for returning the Index of a Type.
+     * The Types are indexed in Lower Case, since they are searched ignoring the Case.
+     * @param  <T> Indexed Type.
+     * @param  indexes Type Indexes.
+     * @param  type Type.
+     * @return Type Index.
+     */
+    private <T> LinkedHashMap<String, T> getIndex(HashMap<String, LinkedHashMap<String, T>> indexes, String type) {
+        return this.getBucket(indexes, (type == null) ? "" : type.toLowerCase(Locale.ROOT));
+    }
+    
+    /**
+     * Method responsible for returning the Elements List.
+     * @return Elements List.
+     */
+    public List<Element> getElementsList() {
+        this.hydrateDiagrams();
+        return new ArrayList<>(this.elements.values());
+    }
+    
     /**
      * Method responsible for returning a Element by Id.
      * @param  id Element Id.
      * @return Element found.
      */
     public Element getElement(String id) {
+        if ((this.objects.get(id) == null) && (this.hydrator != null))
+            this.hydrateDiagram(id);
         return (Element) this.objects.get(id);
     }
     
@@ -250,10 +459,11 @@ public class Project implements Exportable {
      * @return Default Elements.
      */
     public List<Element> getDefaultElements() {
-        List   list = new ArrayList<>();
-        for (Object object : this.objects.values()) {
-            if (object instanceof Element && ((Element) object).isDefault())
-               list.add((Element) object);
+        this.hydrateDiagrams();
+        List<Element> list = new ArrayList<>();
+        for (Element element : this.elements.values()) {
+            if (element.isDefault())
+               list.add(element);
         }
                list.sort(new ComparatorElement());
         return list;
@@ -264,12 +474,8 @@ public class Project implements Exportable {
      * @return Associations List.
      */
     public List<Association> getAssociationsList() {
-        List   list = new ArrayList<>();
-        for (Object object : this.objects.values()) {
-            if (object instanceof Association)
-               list.add((Association) object);
-        }
-        return list;
+        this.hydrateDiagrams();
+        return new ArrayList<>(this.associations.values());
     }
     
     /**
@@ -292,9 +498,11 @@ public class Project implements Exportable {
     
     /**
      * Method responsible for returning the UML Diagrams List.
+     * The Diagram Handles are materialized before the List is built.
      * @return UML Diagrams List.
      */
     public List<Diagram> getUMLDiagramsList() {
+        this.hydrateDiagrams();
         List   list = new ArrayList<>(this.diagrams.values());
                list.sort(new ComparatorDiagram());
                list.removeAll(this.getFeatureDiagramsList());
@@ -306,6 +514,7 @@ public class Project implements Exportable {
      * @return Diagrams with Variability List.
      */
     public List<Diagram> getVariabilityDiagramsList() {
+        this.hydrateDiagrams();
         List   list = new ArrayList<>();
         for (Diagram diagram : this.getUMLDiagramsList()) {
             if (!diagram.getVariabilities().isEmpty())
@@ -316,6 +525,7 @@ public class Project implements Exportable {
     
     /**
      * Method responsible for returning the Diagrams List.
+     * The Diagrams not loaded yet are returned as Diagram Handles, which are materialized by getDiagram.
      * @return Diagrams List.
      */
     public List<Diagram> getDiagramsList() {
@@ -324,10 +534,111 @@ public class Project implements Exportable {
         return list;
     }
     
+    /**
+     * Method responsible for returning a Diagram by Id.
+     * A Diagram Handle is materialized on the first access.
+     * @param  id Diagram Id.
+     * @return Diagram found.
+     */
+    public Diagram getDiagram(String id) {
+        Diagram diagram = (Diagram) this.diagrams.get(id);
+        if (diagram instanceof DiagramHandle) {
+            this.hydrator.hydrate(Arrays.asList((DiagramHandle) diagram));
+            diagram = (Diagram) this.diagrams.get(id);
+        }
+        return diagram;
+    }
+    
+    /**
+     * Method responsible for setting a Diagram, replacing its Handle.
+     * @param diagram Diagram.
+     */
+    public void setDiagram(Diagram diagram) {
+        this.diagrams.put(diagram.getId(), diagram);
+        this.ids.declare(diagram.getId());
+    }
+    
+    /**
+     * Method responsible for returning the Diagram Handles.
+     * @return Diagram Handles List.
+     */
+    public List<DiagramHandle> getDiagramHandles() {
+        List   list = new ArrayList<>();
+        for (Object diagram : this.diagrams.values()) {
+            if (diagram instanceof DiagramHandle)
+               list.add(diagram);
+        }
+        return list;
+    }
+    
+    /**
+     * Method responsible for defining the Diagram Hydrator.
+     * @param hydrator Diagram Hydrator.
+     */
+    public void setHydrator(Hydrator hydrator) {
+        this.hydrator = hydrator;
+    }
+    
+    /**
+     * Method responsible for returning if a Id is declared in a Diagram Handle.
+     * @param  id Object Id.
+     * @return Id is declared in a Diagram Handle.
+     */
+    private boolean isDeclared(String id) {
+        if (this.hydrator == null)
+            return false;
+        for (DiagramHandle handle : this.getDiagramHandles()) {
+            if (handle.contains(id))
+                return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Method responsible for materializing the Diagram that declares a Id.
+     * @param id Object Id.
+     */
+    private void hydrateDiagram(String id) {
+        for (DiagramHandle handle : this.getDiagramHandles()) {
+            if (handle.contains(id)) {
+                this.getDiagram(handle.getId());
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Method responsible for materializing all Diagram Handles.
+     */
+    public void hydrateDiagrams() {
+        if (this.hydrator == null)
+            return;
+        List<DiagramHandle> handles = this.getDiagramHandles();
+        if (!handles.isEmpty())
+            this.hydrator.hydrate(handles);
+    }
+    
+    /**
+     * Method responsible for materializing the Diagram Handles of a Type.
+     * @param type Diagram Type.
+     */
+    private void hydrateDiagrams(String type) {
+        if (this.hydrator == null)
+            return;
+        List<DiagramHandle> handles = new ArrayList<>();
+        for (DiagramHandle handle : this.getDiagramHandles()) {
+            if (handle.getType().equalsIgnoreCase(type))
+                handles.add(handle);
+        }
+        if (!handles.isEmpty())
+            this.hydrator.hydrate(handles);
+    }
+    
     /**
      * Method responsible for updating the Stereotypes.
      */
     public void updateStereotypes() {
+        this.hydrateDiagrams();
         for (Diagram diagram : this.getDiagramsList())
             diagram.updateElementsStereotype();
     }
@@ -337,10 +648,9 @@ public class Project implements Exportable {
      * @return Next Diagram Id.
      */
     public String nextDiagramId() {
-        Integer index  = this.diagrams.size() + 1;
-        String  nextId = "DIAGRAM#" + index;
+        String  nextId = "DIAGRAM#" + this.ids.next("DIAGRAM#");
         while (this.diagrams.get(nextId) != null)
-                nextId = "DIAGRAM#" + ++index;
+                nextId = "DIAGRAM#" + this.ids.next("DIAGRAM#");
         return  nextId;
     }
     
@@ -350,8 +660,11 @@ public class Project implements Exportable {
      */
     public void addDiagram(Diagram diagram) {
         diagram.setId(this.nextDiagramId());
-        if (this.diagrams.get(diagram.getId()) == null)
+        if (this.diagrams.get(diagram.getId()) == null) {
             this.diagrams.put(diagram.getId(), diagram);
+            this.ids.declare(diagram.getId());
+        }
+        this.setDirty("diagrams");
     }
     
     /**
@@ -372,28 +685,27 @@ public class Project implements Exportable {
         this.removeElements(diagram);
         this.removeInstances(diagram);
         this.diagrams.remove(diagram.getId());
+        this.setDirty("diagrams");
     }
     
     /**
      * Method responsible for exporting the Feature Diagrams.
-     * @return Feature Diagrams.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    private String exportFeatureDiagrams() {
-        String export  = "";
+    private void exportFeatureDiagrams(Appendable appendable) throws IOException {
         for (Diagram diagram : this.getFeatureDiagramsList())
-               export += diagram.export();
-        return export;
+            diagram.export(appendable);
     }
     
     /**
      * Method responsible for exporting the UML Diagrams.
-     * @return UML Diagrams.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    private String exportUMLDiagrams() {
-        String export  = "";
+    private void exportUMLDiagrams(Appendable appendable) throws IOException {
         for (Diagram diagram : this.getUMLDiagramsList())
-               export += diagram.export();
-        return export;
+            diagram.export(appendable);
     }
     
     /**
@@ -403,7 +715,7 @@ public class Project implements Exportable {
      */
     public Entity getEntityByName(String name) {
         for (Object diagram : this.getDiagrams("class")) {
-            Entity entity = this.getEntityByName((Diagram) diagram, name);
+            Entity entity = this.getEntityByName(this.getDiagram(((Diagram) diagram).getId()), name);
             if (entity != null)
                 return entity;
         }
@@ -433,9 +745,7 @@ public class Project implements Exportable {
      * @return Types List.
      */
     public List<TypeUML> getTypesList() {
-        List   list = new ArrayList<>(this.types.values());
-               list.sort(new ComparatorTypeUML());
-        return list;
+        return this.typesView.getList(this.types.values());
     }
     
     /**
@@ -444,12 +754,8 @@ public class Project implements Exportable {
      * @return Elements List.
      */
     public List getElements(String type) {
-        List list = new ArrayList<>();
-        for (Element element : this.getElementsList()) {
-            if (element.getType().equalsIgnoreCase(type))
-                list.add(element);
-        }
-        return list;
+        this.hydrateDiagrams();
+        return new ArrayList<>(this.getIndex(this.elementTypes, type).values());
     }
     
     /**
@@ -458,25 +764,24 @@ public class Project implements Exportable {
      * @return Associations List.
      */
     public List getAssociations(String type) {
-        List list = new ArrayList<>();
-        for (Association association : this.getAssociationsList()) {
-            if (association.getType().equalsIgnoreCase(type))
-                list.add(association);
-        }
-        return list;
+        this.hydrateDiagrams();
+        return new ArrayList<>(this.getIndex(this.associationTypes, type).values());
     }
     
     /**
      * Method responsible for returning the Diagrams by Type.
+     * Only the Diagram Handles of the Type are materialized.
      * @param  type Diagram Type.
      * @return Diagrams List.
      */
     public List getDiagrams(String type) {
-        List list = new ArrayList<>();
-        for (Diagram diagram : this.getDiagramsList()) {
-            if (diagram.getType().equalsIgnoreCase(type))
-                list.add(diagram);
+        this.hydrateDiagrams(type);
+        List   list = new ArrayList<>();
+        for (Object diagram : this.diagrams.values()) {
+            if (((Diagram) diagram).getType().equalsIgnoreCase(type))
+               list.add(diagram);
         }
+               list.sort(new ComparatorDiagram());
         return list;
     }
     
@@ -487,9 +792,13 @@ public class Project implements Exportable {
      * @return Element found.
      */
     public Element getByName(String type, String name) {
-        for (Object element : this.getElements(type)) {
-            if (((Element) element).getName().equalsIgnoreCase(name))
-                return (Element) element;
+        this.hydrateDiagrams();
+        List<Element> list = this.names.get(this.getNameKey(type, name));
+        if (list.size() > 1)
+            list = this.getElements(type);
+        for (Element element : list) {
+            if (element.getName().equalsIgnoreCase(name))
+                return element;
         }
         return null;
     }
@@ -499,10 +808,9 @@ public class Project implements Exportable {
      * @return Next Type Id.
      */
     public String nextTypeId() {
-        Integer index  = this.types.size() + 1;
-        String  nextId = "TYPE#" + index;
+        String  nextId = "TYPE#" + this.ids.next("TYPE#");
         while (this.types.get(nextId) != null)
-                nextId = "TYPE#" + ++index;
+                nextId = "TYPE#" + this.ids.next("TYPE#");
         return  nextId;
     }
     
@@ -512,7 +820,53 @@ public class Project implements Exportable {
      */
     public void addType(TypeUML type) {
         type.setId(this.nextTypeId());
-        this.types.put(type.getId(), type);
+        this.putType(type);
+        this.setDirty("types");
+    }
+    
+    /**
+     * Method responsible for putting a UML Type in the Types and in the Types Indexes.
+     * @param type UML Type.
+     */
+    private void putType(TypeUML type) {
+        TypeUML old = (TypeUML) this.types.put(type.getId(), type);
+        this.ids.declare(type.getId());
+        if ((old != null) && (old != type))
+            this.unindexType(old);
+        this.updateTypeUML(type);
+    }
+    
+    /**
+     * Method responsible for removing a UML Type from the Name and Signature Indexes.
+     * @param type UML Type.
+     */
+    private void unindexType(TypeUML type) {
+        this.typesView.clear();
+        String[] keys = this.typeKeys.remove(type.getId());
+        if (keys != null) {
+            this.removeBucket(this.typeNames, keys[0], type.getId());
+            if (keys[1] != null)
+                this.removeBucket(this.typeSignatures, keys[1], type.getId());
+        }
+    }
+    
+    /**
+     * Method responsible for updating the Name and Signature Indexes of a UML Type.
+     * @param type UML Type.
+     */
+    public void updateTypeUML(TypeUML type) {
+        if (this.types.get(type.getId()) != type)
+            return;
+        this.typesView.clear();
+        String[] keys = new String[] {type.getName(), type.isPrimitive() ? null : type.getSignature()};
+        String[] old  = this.typeKeys.put(type.getId(), keys);
+        if ((old != null) && !Objects.equals(old[0], keys[0]))
+            this.removeBucket(this.typeNames, old[0], type.getId());
+        if ((old != null) && (old[1] != null) && !Objects.equals(old[1], keys[1]))
+            this.removeBucket(this.typeSignatures, old[1], type.getId());
+        this.getBucket(this.typeNames, keys[0]).put(type.getId(), type);
+        if (keys[1] != null)
+            this.getBucket(this.typeSignatures, keys[1]).put(type.getId(), type);
     }
     
     /**
@@ -521,7 +875,8 @@ public class Project implements Exportable {
      */
     public void addDefaultType(TypeUML type) {
         if (type.getId() != null)
-            this.types.put(type.getId(), type);
+            this.putType(type);
+        this.setDirty("types");
     }
     
     /**
@@ -539,8 +894,9 @@ public class Project implements Exportable {
      */
     public void addEntityType(Entity entity) {
         TypeUML type = new TypeUML(entity);
-        this.types.put(type.getId(), type);
+        this.putType(type);
                 entity.setTypeUML(type);
+        this.setDirty("types");
     }
     
     /**
@@ -548,7 +904,9 @@ public class Project implements Exportable {
      * @param type UML Type.
      */
     public void removeType(TypeUML type) {
-        this.types.remove(type.getId());
+        if (this.types.remove(type.getId()) != null)
+            this.unindexType(type);
+        this.setDirty("types");
     }
     
     /**
@@ -649,11 +1007,8 @@ public class Project implements Exportable {
      * @return Type found.
      */
     public TypeUML getTypeByName(String name) {
-        for (TypeUML tipo : this.getTypesList()) {
-            if (tipo.getName().equals(name))
-                return tipo;
-        }
-        return this.getObjectType();
+        TypeUML type = this.getFirstType(this.typeNames.get(name));
+        return (type != null) ? type : this.getObjectType();
     }
     
     /**
@@ -662,11 +1017,25 @@ public class Project implements Exportable {
      * @return Type found.
      */
     public TypeUML getTypeBySignature(String signature) {
-        for (TypeUML type : this.getTypesList()) {
-            if (type.getSignature().equals(signature) && (type.isPrimitive() == false))
-                return type;
+        TypeUML type = this.getFirstType(this.typeSignatures.get(signature));
+        return (type != null) ? type : this.getObjectType();
+    }
+    
+    /**
+     * Method responsible for returning the First Type of a Types Index Bucket in the Types List Order.
+     * @param  bucket Types Index Bucket.
+     * @return First Type, or null for a empty Bucket.
+     */
+    private TypeUML getFirstType(LinkedHashMap<String, TypeUML> bucket) {
+        TypeUML first = null;
+        if (bucket != null) {
+            ComparatorTypeUML comparator = new ComparatorTypeUML();
+            for (TypeUML type : bucket.values()) {
+                if ((first == null) || (comparator.compare(type, first) < 0))
+                    first = type;
+            }
         }
-        return this.getObjectType();
+        return first;
     }
     
     /**
@@ -691,13 +1060,14 @@ public class Project implements Exportable {
     
     /**
      * Method responsible for exporting the Types.
-     * @return Types.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    private String exportTypes() {
-        String export  = "  <types>\n";
+    private void exportTypes(Appendable appendable) throws IOException {
+        appendable.append("  <types>\n");
         for (TypeUML type : this.getTypesList())
-               export += type.export();
-        return export  + "  </types>\n";
+            type.export(appendable);
+        appendable.append("  </types>\n");
     }
     
     /**
@@ -713,6 +1083,7 @@ public class Project implements Exportable {
      * @return Variabilities List.
      */
     public List<Variability> getVariabilitiesList() {
+        this.hydrateDiagrams();
         return new ArrayList<>(this.variabilities.values());
     }
     
@@ -721,10 +1092,9 @@ public class Project implements Exportable {
      * @return Next Variability Id.
      */
     public String nextVariabilityId() {
-        Integer index  = this.variabilities.size() + 1;
-        String  nextId = "VARIABILITY#" + index;
-        while (this.variabilities.get(nextId) != null)
-                nextId = "VARIABILITY#" + ++index;
+        String  nextId = "VARIABILITY#" + this.ids.next("VARIABILITY#");
+        while ((this.variabilities.get(nextId) != null) || this.isDeclared(nextId))
+                nextId = "VARIABILITY#" + this.ids.next("VARIABILITY#");
         return  nextId;
     }
     
@@ -733,8 +1103,10 @@ public class Project implements Exportable {
      * @param variability Variability.
      */
     public void addVariability(Variability variability) {
-        variability.setId(this.nextVariabilityId());
+        if ((variability.getId() == null) || (variability.getId().trim().equals("")))
+            variability.setId(this.nextVariabilityId());
         this.variabilities.put(variability.getId(), variability);
+        this.ids.declare(variability.getId());
         this.addVariabilityStereotype(variability);
     }
     
@@ -772,10 +1144,9 @@ public class Project implements Exportable {
      * @return Next Requirement Id.
      */
     public String nextRequirementId() {
-        Integer index  = this.requirements.size() + 1;
-        String  nextId = "REQUIREMENT#" + index;
+        String  nextId = "REQUIREMENT#" + this.ids.next("REQUIREMENT#");
         while (this.requirements.get(nextId) != null)
-                nextId = "REQUIREMENT#" + ++index;
+                nextId = "REQUIREMENT#" + this.ids.next("REQUIREMENT#");
         return  nextId;
     }
     
@@ -786,6 +1157,24 @@ public class Project implements Exportable {
     public void addRequirement(Requirement requirement) {
         requirement.setId(this.nextRequirementId());
         this.requirements.put(requirement.getId(), requirement);
+        this.ids.declare(requirement.getId());
+        requirement.setProject(this);
+        for (Element element : requirement.getAllElements())
+            this.updateRequirement(requirement, element, true);
+        this.setDirty("requirements");
+    }
+    
+    /**
+     * Method responsible for updating the Requirements Index of a Element.
+     * @param requirement Requirement.
+     * @param element Element.
+     * @param contains Requirement contains the Element.
+     */
+    public void updateRequirement(Requirement requirement, Element element, boolean contains) {
+        if (contains)
+            this.getBucket(this.elementRequirements, element.getHandle()).put(requirement.getId(), requirement);
+        else
+            this.removeBucket(this.elementRequirements, element.getHandle(), requirement.getId());
     }
     
     /**
@@ -803,6 +1192,10 @@ public class Project implements Exportable {
      */
     public void removeRequirement(Requirement requirement) {
         this.requirements.remove(requirement.getId());
+        for (Element element : requirement.getAllElements())
+            this.updateRequirement(requirement, element, false);
+        requirement.setProject(null);
+        this.setDirty("requirements");
     }
     
     /**
@@ -810,8 +1203,12 @@ public class Project implements Exportable {
      * @param element Element.
      */
     public void removeRequirement(Element element) {
-        for (Requirement requirement : this.getRequirementsList())
-            requirement.removeElement(element);
+        LinkedHashMap<String, Requirement> bucket = this.elementRequirements.get(element.getHandle());
+        if (bucket != null) {
+            for (Requirement requirement : new ArrayList<>(bucket.values()))
+                requirement.removeElement(element);
+        }
+        this.setDirty("requirements");
     }
     
     /**
@@ -824,13 +1221,12 @@ public class Project implements Exportable {
     
     /**
      * Method responsible for exporting the Requirements.
-     * @return Requirements.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    private String exportRequirements() {
-        String export  = "";
+    private void exportRequirements(Appendable appendable) throws IOException {
         for (Requirement requirement : this.getRequirementsList())
-               export += requirement.export();
-        return export;
+            requirement.export(appendable);
     }
     
     /**
@@ -838,10 +1234,9 @@ public class Project implements Exportable {
      * @return Next Traceability Id.
      */
     public String nextTraceabilityId() {
-        Integer index  = this.traceabilities.size() + 1;
-        String  nextId = "TRACEABILITY#" + index;
+        String  nextId = "TRACEABILITY#" + this.ids.next("TRACEABILITY#");
         while (this.traceabilities.get(nextId) != null)
-                nextId = "TRACEABILITY#" + ++index;
+                nextId = "TRACEABILITY#" + this.ids.next("TRACEABILITY#");
         return  nextId;
     }
     
@@ -852,6 +1247,24 @@ public class Project implements Exportable {
     public void addTraceability(Traceability traceability) {
         traceability.setId(this.nextTraceabilityId());
         this.traceabilities.put(traceability.getId(), traceability);
+        this.ids.declare(traceability.getId());
+        traceability.setProject(this);
+        for (Element element : traceability.getElements())
+            this.updateTraceability(traceability, element, true);
+        this.setDirty("traceabilities");
+    }
+    
+    /**
+     * Method responsible for updating the Traceabilities Index of a Element.
+     * @param traceability Traceability.
+     * @param element Element.
+     * @param contains Traceability contains the Element.
+     */
+    public void updateTraceability(Traceability traceability, Element element, boolean contains) {
+        if (contains)
+            this.getBucket(this.elementTraceabilities, element.getHandle()).put(traceability.getId(), traceability);
+        else
+            this.removeBucket(this.elementTraceabilities, element.getHandle(), traceability.getId());
     }
     
     /**
@@ -869,12 +1282,8 @@ public class Project implements Exportable {
      * @return Traceabilities found.
      */
     public List<Traceability> getTraceabilities(Element element) {
-        List   filter = new ArrayList<>();
-        for (Traceability traceability : this.getTraceabilitiesList()) {
-            if (traceability.contains(element))
-               filter.add(traceability);
-        }
-        return filter;
+        LinkedHashMap<String, Traceability> bucket = this.elementTraceabilities.get(element.getHandle());
+        return (bucket == null) ? new ArrayList<>() : new ArrayList<>(bucket.values());
     }
     
     /**
@@ -883,6 +1292,10 @@ public class Project implements Exportable {
      */
     public void removeTraceability(Traceability traceability) {
         this.traceabilities.remove(traceability.getId());
+        for (Element element : traceability.getElements())
+            this.updateTraceability(traceability, element, false);
+        traceability.setProject(null);
+        this.setDirty("traceabilities");
     }
     
     /**
@@ -890,10 +1303,9 @@ public class Project implements Exportable {
      * @param element Element.
      */
     public void removeTraceability(Element element) {
-        for (Traceability traceability : this.getTraceabilitiesList()) {
-            if (traceability.contains(element))
-                traceability.removeElement(element);
-        }
+        for (Traceability traceability : this.getTraceabilities(element))
+            traceability.removeElement(element);
+        this.setDirty("traceabilities");
     }
     
     /**
@@ -906,13 +1318,12 @@ public class Project implements Exportable {
     
     /**
      * Method responsible for exporting the Traceabilities.
-     * @return Traceabilities.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    private String exportTraceabilities() {
-        String export  = "";
+    private void exportTraceabilities(Appendable appendable) throws IOException {
         for (Traceability traceability : this.getTraceabilitiesList())
-               export += traceability.export();
-        return export;
+            traceability.export(appendable);
     }
     
     /**
@@ -920,10 +1331,9 @@ public class Project implements Exportable {
      * @return Next Metric Id.
      */
     public String nextMetricId() {
-        Integer index  = this.metrics.size() + 1;
-        String  nextId = "METRIC#" + index;
+        String  nextId = "METRIC#" + this.ids.next("METRIC#");
         while (this.metrics.get(nextId) != null)
-                nextId = "METRIC#" + ++index;
+                nextId = "METRIC#" + this.ids.next("METRIC#");
         return  nextId;
     }
     
@@ -934,6 +1344,8 @@ public class Project implements Exportable {
     public void addMetric(Metric metric) {
         metric.setId(this.nextMetricId());
         this.metrics.put(metric.getId(), metric);
+        this.ids.declare(metric.getId());
+        this.setDirty("metrics");
     }
     
     /**
@@ -952,6 +1364,7 @@ public class Project implements Exportable {
     public void removeMetric(Metric metric) {
         this.removeMeasures(metric);
         this.metrics.remove(metric.getId());
+        this.setDirty("metrics");
     }
     
     /**
@@ -964,13 +1377,12 @@ public class Project implements Exportable {
     
     /**
      * Method responsible for exporting the Metrics.
-     * @return Metrics.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    private String exportMetrics() {
-        String export  = "";
+    private void exportMetrics(Appendable appendable) throws IOException {
         for (Metric metric : this.getMetricsList())
-               export += metric.export();
-        return export;
+            metric.export(appendable);
     }
     
     /**
@@ -978,10 +1390,9 @@ public class Project implements Exportable {
      * @return Next Measure Id.
      */
     public String nextMeasureId() {
-        Integer index  = this.measures.size() + 1;
-        String  nextId = "MEASURE#" + index;
+        String  nextId = "MEASURE#" + this.ids.next("MEASURE#");
         while (this.measures.get(nextId) != null)
-                nextId = "MEASURE#" + ++index;
+                nextId = "MEASURE#" + this.ids.next("MEASURE#");
         return  nextId;
     }
     
@@ -992,6 +1403,8 @@ public class Project implements Exportable {
     public void addMeasure(Measure measure) {
         measure.setId(this.nextMeasureId());
         this.measures.put(measure.getId(), measure);
+        this.ids.declare(measure.getId());
+        this.setDirty("measures");
     }
     
     /**
@@ -1032,6 +1445,7 @@ public class Project implements Exportable {
      */
     public void removeMeasure(Measure measure) {
         this.measures.remove(measure.getId());
+        this.setDirty("measures");
     }
     
     /**
@@ -1044,13 +1458,12 @@ public class Project implements Exportable {
     
     /**
      * Method responsible for exporting the Measures.
-     * @return Measures.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    private String exportMeasures() {
-        String export  = "";
+    private void exportMeasures(Appendable appendable) throws IOException {
         for (Measure measure : this.getMeasuresList())
-               export += measure.export();
-        return export;
+            measure.export(appendable);
     }
     
     /**
@@ -1058,10 +1471,9 @@ public class Project implements Exportable {
      * @return Next Product Id.
      */
     public String nextProductId() {
-        Integer index  = this.products.size() + 1;
-        String  nextId = "PRODUCT#" + index;
+        String  nextId = "PRODUCT#" + this.ids.next("PRODUCT#");
         while (this.products.get(nextId) != null)
-                nextId = "PRODUCT#" + ++index;
+                nextId = "PRODUCT#" + this.ids.next("PRODUCT#");
         return  nextId;
     }
     
@@ -1072,6 +1484,36 @@ public class Project implements Exportable {
     public void addProduct(Product product) {
         product.setId(this.nextProductId());
         this.products.put(product.getId(), product);
+        this.ids.declare(product.getId());
+        product.setProject(this);
+        for (Artifact artifact : product.getArtifactsList()) {
+            if (artifact.getElement() != null)
+                this.updateProduct(product, artifact.getElement(), true);
+        }
+        this.setDirty("products");
+    }
+    
+    /**
+     * Method responsible for updating the Products Index of a Element.
+     * @param product Product.
+     * @param element Element.
+     * @param contains Product contains the Element.
+     */
+    public void updateProduct(Product product, Element element, boolean contains) {
+        if (contains)
+            this.getBucket(this.elementProducts, element.getHandle()).put(product.getId(), product);
+        else
+            this.removeBucket(this.elementProducts, element.getHandle(), product.getId());
+    }
+    
+    /**
+     * Method responsible for returning the Products by Element.
+     * @param  element Element.
+     * @return Products found.
+     */
+    public List<Product> getProducts(Element element) {
+        LinkedHashMap<String, Product> bucket = this.elementProducts.get(element.getHandle());
+        return (bucket == null) ? new ArrayList<>() : new ArrayList<>(bucket.values());
     }
     
     /**
@@ -1088,8 +1530,9 @@ public class Project implements Exportable {
      * @param element Element.
      */
     public void removeProduct(Element element) {
-        for (Product product : this.getProductsList()) 
+        for (Product product : this.getProducts(element)) 
             this.remove(product, element);
+        this.setDirty("products");
     }
     
     /**
@@ -1122,6 +1565,7 @@ public class Project implements Exportable {
     public void removeInstances(Diagram diagram) {
         for (Product product : this.getProductsList())
             product.remove(diagram);
+        this.setDirty("products");
     }
     
     /**
@@ -1144,6 +1588,7 @@ public class Project implements Exportable {
     public void removeProduct(Association association) {
         for (Product product : this.getProductsList()) 
             product.remove(association);
+        this.setDirty("products");
     }
     
     /**
@@ -1163,6 +1608,8 @@ public class Project implements Exportable {
     public void removeProduct(Product product) {
         this.removeInstances(product);
         this.products.remove(product.getId());
+        product.setProject(null);
+        this.setDirty("products");
     }
     
     /**
@@ -1175,13 +1622,14 @@ public class Project implements Exportable {
     
     /**
      * Method responsible for exporting the Products.
-     * @return Products.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    private String exportProducts() {
-        String export  = "  <products>\n";
+    private void exportProducts(Appendable appendable) throws IOException {
+        appendable.append("  <products>\n");
         for (Product product : this.getProductsList())
-               export += product.export();
-        return export  + "  </products>\n";
+            product.export(appendable);
+        appendable.append("  </products>\n");
     }
     
     /**
@@ -1208,9 +1656,7 @@ public class Project implements Exportable {
      * @return Stereotipos List.
      */
     public List<Stereotype> getStereotypesList() {
-        ArrayList list = new ArrayList<>(this.stereotypes.values());
-                  list.sort(new ComparatorStereotype());
-        return    list;
+        return this.stereotypesView.getList(this.stereotypes.values());
     }
     
     /**
@@ -1232,10 +1678,9 @@ public class Project implements Exportable {
      * @return Next Stereotype Id.
      */
     public String nextStereotypeId() {
-        Integer index  = this.stereotypes.size() + 1;
-        String  nextId = "STEREOTYPE#" + index;
+        String  nextId = "STEREOTYPE#" + this.ids.next("STEREOTYPE#");
         while (this.stereotypes.get(nextId) != null)
-                nextId = "STEREOTYPE#" + ++index;
+                nextId = "STEREOTYPE#" + this.ids.next("STEREOTYPE#");
         return  nextId;
     }
     
@@ -1245,7 +1690,11 @@ public class Project implements Exportable {
      */
     public void addStereotype(Stereotype stereotype) {
         stereotype.setId(this.nextStereotypeId());
+        stereotype.setProject(this);
         this.stereotypes.put(stereotype.getId(), stereotype);
+        this.ids.declare(stereotype.getId());
+        this.stereotypesView.clear();
+        this.setDirty("stereotypes");
     }
     
     /**
@@ -1253,8 +1702,27 @@ public class Project implements Exportable {
      * @param stereotype Stereotype.
      */
     public void addDefaultStereotype(Stereotype stereotype) {
-        if (stereotype.getId() != null)
+        if (stereotype.getId() != null) {
+            stereotype.setProject(this);
             this.stereotypes.put(stereotype.getId(), stereotype);
+            this.ids.declare(stereotype.getId());
+            this.stereotypesView.clear();
+        }
+        this.setDirty("stereotypes");
+    }
+    
+    /**
+     * Method responsible for updating the Views after a Stereotype changes its Name or Primitive Flag.
+     * The Links are sorted by the Stereotype Signature, so both Views are cleared.
+     * @param stereotype Stereotype.
+     */
+    public void updateStereotype(Stereotype stereotype) {
+        if (this.stereotypes.get(stereotype.getId()) != stereotype)
+            return;
+        this.stereotypesView.clear();
+        this.linksView.clear();
+        this.setDirty("stereotypes");
+        this.setDirty("links");
     }
     
     /**
@@ -1275,6 +1743,8 @@ public class Project implements Exportable {
     public void removeStereotype(Stereotype stereotype) {
         this.removeLinks(stereotype);
         this.stereotypes.remove(stereotype.getId());
+        this.stereotypesView.clear();
+        this.setDirty("stereotypes");
     }
     
     /**
@@ -1326,13 +1796,14 @@ public class Project implements Exportable {
     
     /**
      * Method responsible for exporting the Stereotypes.
-     * @return Stereotypes.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    private String exportStereotypes() {
-        String export  = "  <stereotypes>\n";
+    private void exportStereotypes(Appendable appendable) throws IOException {
+        appendable.append("  <stereotypes>\n");
         for (Stereotype stereotype : this.getStereotypesList())
-               export += stereotype.export();
-        return export +  "  </stereotypes>\n";
+            stereotype.export(appendable);
+        appendable.append("  </stereotypes>\n");
     }
     
     /**
@@ -1348,9 +1819,7 @@ public class Project implements Exportable {
      * @return Links List.
      */
     public List<Link> getLinksList() {
-        List   list = new ArrayList<>(this.links.values());
-               list.sort(new ComparatorLink());
-        return list;
+        return this.linksView.getList(this.links.values());
     }
     
     /**
@@ -1359,9 +1828,122 @@ public class Project implements Exportable {
      */
     public void addLink(Link link) {
         if (link.getElement().allowStereotype()) {
-            if (this.links.containsKey(link.getId()) == false)
+            if (this.links.containsKey(link.getId()) == false) {
                 this.links.put(link.getId(), link);
+                this.indexLink(link);
+            }
+        }
+        this.setDirty("links");
+    }
+    
+    /**
+     * Method responsible for replacing the Links.
+     * @param links Links Map.
+     */
+    public void setLinks(Map links) {
+        this.links.clear();
+        this.links.putAll(links);
+        this.linksView.clear();
+        this.elementLinks.clear();
+        this.stereotypeLinks.clear();
+        for (Object link : this.links.values())
+            this.indexLink((Link) link);
+    }
+    
+    /**
+     * Method responsible for adding a Link to the Element and Stereotype Indexes.
+     * @param link Link.
+     */
+    private void indexLink(Link link) {
+        this.linksView.clear();
+        this.getBucket(this.elementLinks,    link.getElement().getHandle()).put(link.getId(), link);
+        this.getBucket(this.stereotypeLinks, link.getStereotype().getId()).put(link.getId(), link);
+    }
+    
+    /**
+     * Method responsible for removing a Link from the Element and Stereotype Indexes.
+     * @param link Link.
+     */
+    private void unindexLink(Link link) {
+        this.linksView.clear();
+        this.removeBucket(this.elementLinks,    link.getElement().getHandle(), link.getId());
+        this.removeBucket(this.stereotypeLinks, link.getStereotype().getId(), link.getId());
+    }
+    
+    /**
+     * Method responsible for returning the Bucket of a Id in a Reverse Index.
+     * @param  <T> Indexed Type.
+     * @param  index Reverse Index.
+     * @param  id Indexed Id.
+     * @return Bucket Map.
+     */
+    private <T> LinkedHashMap<String, T> getBucket(HashMap<String, LinkedHashMap<String, T>> index, String id) {
+        LinkedHashMap<String, T> bucket = index.get(id);
+        if (bucket == null) {
+                bucket = new LinkedHashMap<>();
+                index.put(id, bucket);
+        }
+        return  bucket;
+    }
+    
+    /**
+     * Method responsible for removing a Key from the Bucket of a Id in a Reverse Index.
+     * @param <T> Indexed Type.
+     * @param index Reverse Index.
+     * @param id Indexed Id.
+     * @param key Bucket Key.
+     */
+    private <T> void removeBucket(HashMap<String, LinkedHashMap<String, T>> index, String id, String key) {
+        LinkedHashMap<String, T> bucket = index.get(id);
+        if (bucket != null) {
+            bucket.remove(key);
+            if (bucket.isEmpty())
+                index.remove(id);
+        }
+    }
+    
+    /**
+     * Method responsible for returning the Bucket of a Element Handle in a Reverse Index.
+     * @param  <T> Indexed Type.
+     * @param  index Reverse Index.
+     * @param  handle Element Handle.
+     * @return Bucket Map.
+     */
+    private <T> LinkedHashMap<String, T> getBucket(HandleMap<LinkedHashMap<String, T>> index, int handle) {
+        LinkedHashMap<String, T> bucket = index.get(handle);
+        if (bucket == null) {
+                bucket = new LinkedHashMap<>();
+                index.put(handle, bucket);
         }
+        return  bucket;
+    }
+    
+    /**
+     * Method responsible for removing a Key from the Bucket of a Element Handle in a Reverse Index.
+     * @param <T> Indexed Type.
+     * @param index Reverse Index.
+     * @param handle Element Handle.
+     * @param key Bucket Key.
+     */
+    private <T> void removeBucket(HandleMap<LinkedHashMap<String, T>> index, int handle, String key) {
+        LinkedHashMap<String, T> bucket = index.get(handle);
+        if (bucket != null) {
+            bucket.remove(key);
+            if (bucket.isEmpty())
+                index.remove(handle);
+        }
+    }
+    
+    /**
+     * Method responsible for returning the Links of a Bucket in a Links Index, ordered as the Links List.
+     * @param  links Links Bucket.
+     * @return Links List.
+     */
+    private List<Link> getLinksList(LinkedHashMap<String, Link> links) {
+        List<Link> list = (links == null) ? new ArrayList<>() : new ArrayList<>(links.values());
+        if (list.size() > 1)
+            list.sort(new ComparatorLink());
+        return list;
     }
     
     /**
@@ -1392,12 +1974,7 @@ public class Project implements Exportable {
      * @return Links by Element.
      */
     public List<Link> getLinksByElement(Element element) {
-        List   filter = new ArrayList<>();
-        for (Link link : this.getLinksList()) {
-            if (link.getElement().getId().equals(element.getId()))
-               filter.add(link);
-        }
-        return filter;
+        return this.getLinksList(this.elementLinks.get(element.getHandle()));
     }
     
     /**
@@ -1406,12 +1983,7 @@ public class Project implements Exportable {
      * @return Links by Stereotype.
      */
     public List<Link> getLinksByStereotype(Stereotype stereotype) {
-        List   filter = new ArrayList<>();
-        for (Link link : this.getLinksList()) {
-            if (link.getStereotype().equals(stereotype))
-               filter.add(link);
-        }
-        return filter;
+        return this.getLinksList(this.stereotypeLinks.get(stereotype.getId()));
     }
     
     /**
@@ -1419,7 +1991,10 @@ public class Project implements Exportable {
      * @param link Link.
      */
     public void removeLink(Link link) {
-        this.links.remove(link.getId());
+        Link removed = (Link) this.links.remove(link.getId());
+        if (removed != null)
+            this.unindexLink(removed);
+        this.setDirty("links");
     }
     
     /**
@@ -1480,13 +2055,14 @@ public class Project implements Exportable {
     
     /**
      * Method responsible for exporting the Links.
-     * @return Links.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    private String exportLinks() {
-        String export  = "  <links>\n";
+    private void exportLinks(Appendable appendable) throws IOException {
+        appendable.append("  <links>\n");
         for (Link link : this.getLinksList())
-               export += link.export();
-        return export  + "  </links>\n";
+            link.export(appendable);
+        appendable.append("  </links>\n");
     }
     
     /**
@@ -1507,20 +2083,181 @@ public class Project implements Exportable {
     
     @Override
     public String export() {
-        String export  = "<project id=\"" + this.id + "\" name=\"" + this.name + "\" version=\"" + this.version + "\">\n";
-               export += this.exportTypes();
-               export += this.exportStereotypes();
-               export += this.profile.export();
-               export += this.exportFeatureDiagrams();
-               export += this.exportUMLDiagrams();
-               export += this.exportRequirements();
-               export += this.exportTraceabilities();
-               export += this.exportLinks();
-               export += this.exportProducts();
-               export += this.exportMetrics();
-               export += this.exportMeasures();
-               export += "</project>";
-        return this.getString(export);
+        StringBuilder export = new StringBuilder();
+        try {
+            this.export(export);
+        } catch (IOException exception) {}
+        return this.getString(export.toString());
+    }
+    
+    @Override
+    public void export(Appendable appendable) throws IOException {
+        this.hydrateDiagrams();
+        for (String section : SECTIONS)
+            this.export(section, appendable);
+        appendable.append("</project>");
+    }
+    
+    /**
+     * Method responsible for exporting a Project Section.
+     * The Sections exported in the Order of SECTIONS followed by the Project End Tag form the Project Export.
+     * @param  section Project Section.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
+     */
+    public void export(String section, Appendable appendable) throws IOException {
+        switch (section) {
+            case "project":
+                appendable.append("<project id=\"").append(this.id).append("\" name=\"").append(this.name).append("\" version=\"").append(this.version).append("\">\n");
+                break;
+            case "types":
+                this.exportTypes(appendable);
+                break;
+            case "stereotypes":
+                this.exportStereotypes(appendable);
+                break;
+            case "profile":
+                this.profile.export(appendable);
+                break;
+            case "diagrams":
+                this.exportFeatureDiagrams(appendable);
+                this.exportUMLDiagrams(appendable);
+                break;
+            case "requirements":
+                this.exportRequirements(appendable);
+                break;
+            case "traceabilities":
+                this.exportTraceabilities(appendable);
+                break;
+            case "links":
+                this.exportLinks(appendable);
+                break;
+            case "products":
+                this.exportProducts(appendable);
+                break;
+            case "metrics":
+                this.exportMetrics(appendable);
+                break;
+            case "measures":
+                this.exportMeasures(appendable);
+                break;
+            default:
+                throw new IOException("Invalid Project Section: " + section);
+        }
+    }
+    
+    /**
+     * Method responsible for returning the Content Hash of a Project Section.
+     * The Diagrams Hash combines the cached Diagram Hashes. The other Sections are hashed from their Export, since their Objects can change without notifying the Project.
+     * @param  section Project Section.
+     * @return Section Content Hash.
+     * @throws UncheckedIOException Exception to export the Section.
+     */
+    public String getHash(String section) {
+        StringBuilder content = new StringBuilder();
+        if (section.equals("diagrams")) {
+            for (Diagram diagram : this.getFeatureDiagramsList())
+                content.append(diagram.getHash()).append("\n");
+            for (Diagram diagram : this.getUMLDiagramsList())
+                content.append(diagram.getHash()).append("\n");
+        }else {
+            try {
+                this.export(section, content);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+        return new FunctString().md5(content.toString());
+    }
+    
+    /**
+     * Method responsible for returning the Project Content Hash.
+     * The Hash is the Root of the Tree formed by the Sections, Diagrams, Elements and Associations Hashes.
+     * @return Project Content Hash.
+     */
+    public String getHash() {
+        StringBuilder hashes = new StringBuilder();
+        for (String section : SECTIONS)
+            hashes.append(this.getHash(section)).append("\n");
+        return new FunctString().md5(hashes.toString());
+    }
+    
+    /**
+     * Method responsible for exporting the Project to a File.
+     * @param  file Project File.
+     * @throws IOException Exception to write the File.
+     */
+    public void export(File file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            this.export(writer);
+        }
+    }
+    
+    /**
+     * Method responsible for exporting the Project to a File concurrently.
+     * @param  file Project File.
+     * @param  pool Fork Join Pool.
+     * @throws IOException Exception to write the File.
+     */
+    public void export(File file, ForkJoinPool pool) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            this.export(writer, pool);
+        }
+    }
+    
+    /**
+     * Method responsible for exporting the Project concurrently.
+     * Each Diagram and each other Section is exported in its own Buffer on the Fork Join Pool, and the Buffers are appended in the Export Order as soon as they are done, so the Output is the same of the sequential Export.
+     * At most two Parts per Pool Thread are exported ahead of the Output, so the Buffers never hold the whole Project.
+     * @param  appendable Appendable Output.
+     * @param  pool Fork Join Pool.
+     * @throws IOException Exception to write the Output.
+     */
+    public void export(Appendable appendable, ForkJoinPool pool) throws IOException {
+        this.hydrateDiagrams();
+        List<Part> parts = new ArrayList<>();
+        for (String section : SECTIONS) {
+            if (section.equals("diagrams")) {
+                for (Diagram diagram : this.getFeatureDiagramsList())
+                    parts.add(new Part(this, section, diagram));
+                for (Diagram diagram : this.getUMLDiagramsList())
+                    parts.add(new Part(this, section, diagram));
+            }else
+                parts.add(new Part(this, section, null));
+        }
+        ArrayDeque<Future<String>> pending = new ArrayDeque<>();
+        int limit = 2 * pool.getParallelism();
+        int next  = 0;
+        try {
+            while (next < parts.size() || !pending.isEmpty()) {
+                while ((next < parts.size()) && (pending.size() < limit))
+                    pending.add(pool.submit(parts.get(next++)));
+                appendable.append(this.get(pending.poll()));
+            }
+        } finally {
+            for (Future<String> part : pending)
+                part.cancel(true);
+        }
+        appendable.append("</project>");
+    }
+    
+    /**
+     * Method responsible for returning the Export of a Part Task.
+     * @param  part Part Task Future.
+     * @return Part Export.
+     * @throws IOException Exception to export the Part.
+     */
+    private String get(Future<String> part) throws IOException {
+        try {
+            return part.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Project Export interrupted");
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof IOException)
+                throw (IOException) exception.getCause();
+            throw new IOException(exception.getCause());
+        }
     }
     
     /**
@@ -1572,4 +2309,37 @@ public class Project implements Exportable {
                project += "Links          = " + this.links          + "\n";
         return project;
     }
+    
+    /**
+     * <p>Class of Model <b>Part</b>.</p>
+     * <p>Class responsible for <b>Exporting a Project Section or a Diagram</b> in a Fork Join Pool Task.</p>
+     * <p>The Tasks only read the Model, which must not change during the Export.</p>
+     */
+    private static class Part implements Callable<String> {
+        private final Project project;
+        private final String  section;
+        private final Diagram diagram;
+        
+        /**
+         * Default constructor method of Class.
+         * @param project Project.
+         * @param section Project Section.
+         * @param diagram Diagram of the Diagrams Section.
+         */
+        public Part(Project project, String section, Diagram diagram) {
+            this.project = project;
+            this.section = section;
+            this.diagram = diagram;
+        }
+        
+        @Override
+        public String call() throws IOException {
+            StringBuilder export = new StringBuilder();
+            if (this.diagram != null)
+                this.diagram.export(export);
+            else
+                this.project.export(this.section, export);
+            return export.toString();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package model.structural.base;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <p>Class of Model <b>SortedView</b>.</p>
+ * <p>Class responsible for <b>Keeping a Sorted and Unmodifiable List</b> of a Collection in SMartyModeling.</p>
+ * <p>The List is sorted once and shared by every Call until the Owner of the Collection clears the View after a Change, so repeated Calls between Changes neither copy nor sort the Collection.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @param  <T> Value Type.
+ * @see    model.structural.base.Diagram
+ * @see    model.structural.base.Project
+ */
+public class SortedView<T> {
+    private final Comparator<? super T> comparator;
+    private List<T> list;
+
+    /**
+     * Default constructor method of Class.
+     * @param comparator Values Comparator.
+     */
+    public SortedView(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+        this.list       = null;
+    }
+
+    /**
+     * Method responsible for returning the Sorted List of the Values.
+     * The Values are sorted only if the View was cleared since the last Call.
+     * @param  values Current Values.
+     * @return Sorted and Unmodifiable List.
+     */
+    public List<T> getList(Collection<? extends T> values) {
+        if (this.list == null) {
+            List<T> sorted = new ArrayList<>(values);
+                    sorted.sort(this.comparator);
+            this.list = Collections.unmodifiableList(sorted);
+        }
+        return this.list;
+    }
+
+    /**
+     * Method responsible for clearing the View after a Change of the Values.
+     */
+    public void clear() {
+        this.list = null;
+    }
+}
@@ -18,6 +18,7 @@ public final class Stereotype implements Exportable {
     private String  id;
     private String  name;
     private boolean primitive;
+    private Project project;
     
     /**
      * Default constructor method of Class.
@@ -90,6 +91,7 @@ public final class Stereotype implements Exportable {
      */
     public void setName(String name) {
         this.name = this.primitive ? name.trim() : name.toLowerCase().trim();
+        this.update();
     }
 
     /**
@@ -106,6 +108,23 @@ public final class Stereotype implements Exportable {
      */
     public void setPrimitive(boolean primitive) {
         this.primitive = primitive;
+        this.update();
+    }
+
+    /**
+     * Method responsible for defining the Stereotype Project.
+     * @param project Stereotype Project.
+     */
+    public void setProject(Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Method responsible for notifying the Project that the Stereotype changed.
+     */
+    private void update() {
+        if (this.project != null)
+            this.project.updateStereotype(this);
     }
     
     /**
@@ -113,21 +132,24 @@ public final class Stereotype implements Exportable {
      * @return Style Map.
      */
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_MOVABLE,   "0");
-               style.put(mxConstants.STYLE_EDITABLE,  "0");
-               style.put(mxConstants.STYLE_FOLDABLE,  "0");
-               style.put(mxConstants.STYLE_FONTSIZE,  "15");
-               style.put(mxConstants.STYLE_RESIZABLE, "0");
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+        Map<String, Object> style = StyleRegistry.getStyle("styleStereotype");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_MOVABLE,   "0");
+                            style.put(mxConstants.STYLE_EDITABLE,  "0");
+                            style.put(mxConstants.STYLE_FOLDABLE,  "0");
+                            style.put(mxConstants.STYLE_FONTSIZE,  "15");
+                            style.put(mxConstants.STYLE_RESIZABLE, "0");
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
 //               style.put(mxConstants.STYLE_FILLCOLOR,   "#9999FF");
 //               style.put(mxConstants.STYLE_STROKECOLOR, "#9999FF");
-               style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
-               style.put(mxConstants.STYLE_STROKECOLOR, mxConstants.NONE);
-               style.put(mxConstants.STYLE_DASH_PATTERN,  "0");
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
-               style.put(mxConstants.STYLE_FONTSTYLE, mxConstants.FONT_SHADOW);
-        return style;
+                            style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
+                            style.put(mxConstants.STYLE_STROKECOLOR, mxConstants.NONE);
+                            style.put(mxConstants.STYLE_DASH_PATTERN,  "0");
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
+                            style.put(mxConstants.STYLE_FONTSTYLE, mxConstants.FONT_SHADOW);
+        return StyleRegistry.putStyle("styleStereotype", style);
     }
 
     @Override
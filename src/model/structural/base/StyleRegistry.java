@@ -0,0 +1,43 @@
+package model.structural.base;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * <p>Class of Model <b>StyleRegistry</b>.</p>
+ * <p>Class responsible for <b>Sharing the Style Maps</b> in SMartyModeling.</p>
+ * <p>The Styles are registered by the Style Label of the Class and, for the Styles that change with the Object, by the State of the Style, so every Object in the same State returns the same Unmodifiable Map instead of building a New Map per Call. The Registry is read without a Lock, so rendering does not serialize on it.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    model.structural.base.interfaces.Modelable
+ */
+public class StyleRegistry {
+    private static final ConcurrentHashMap<String, Map<String, Object>> STYLES = new ConcurrentHashMap<>();
+
+    /**
+     * Method responsible for returning a Registered Style.
+     * @param  key Style Key.
+     * @return Registered Style, or null if the Key is not registered.
+     */
+    public static Map<String, Object> getStyle(String key) {
+        return STYLES.get(key);
+    }
+
+    /**
+     * Method responsible for registering a Style.
+     * When two Threads register the same Key, both receive the Style registered first.
+     * @param  key Style Key.
+     * @param  style Style Map.
+     * @return Registered Unmodifiable Style.
+     */
+    public static Map<String, Object> putStyle(String key, final Map<String, Object> style) {
+        return STYLES.computeIfAbsent(key, new Function<String, Map<String, Object>>() {
+            @Override
+            public Map<String, Object> apply(String label) {
+                return Collections.unmodifiableMap(style);
+            }
+        });
+    }
+}
@@ -0,0 +1,195 @@
+package model.structural.base;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import model.comparator.structural.base.variability.ComparatorVariability;
+import model.structural.base.variability.Variability;
+
+/**
+ * <p>Class of Model <b>VariabilityIndex</b>.</p>
+ * <p>Class responsible for <b>Indexing the Variabilities by Variation Point and by Variant</b> in SMartyModeling.</p>
+ * <p>The Elements are indexed by their Handles. The Index keeps the Variation Point Handle and the Variant Handles of each Variability, so a Variability can be moved after its Variation Point or Variants change. The Variabilities of a Element are returned in the Order of the Diagram Variabilities List.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ * @see    model.structural.base.Diagram
+ */
+class VariabilityIndex {
+    private final HandleMap<LinkedHashMap<String, Variability>> variationPoints;
+    private final HandleMap<LinkedHashMap<String, Variability>> variants;
+    private final HashMap<String, Integer> keys;
+    private final HashMap<String, LinkedHashSet<Integer>> members;
+    private final HashMap<String, Integer> order;
+    private final ComparatorVariability comparator;
+    private Integer sequence;
+
+    /**
+     * Default constructor method of Class.
+     */
+    public VariabilityIndex() {
+        this.variationPoints = new HandleMap<>();
+        this.variants        = new HandleMap<>();
+        this.keys            = new HashMap<>();
+        this.members         = new HashMap<>();
+        this.order           = new HashMap<>();
+        this.comparator      = new ComparatorVariability();
+        this.sequence        = 0;
+    }
+
+    /**
+     * Method responsible for returning the Handle of a Element.
+     * @param  element Element.
+     * @return Element Handle, or zero for no Element.
+     */
+    private int getHandle(Element element) {
+        return (element == null) ? 0 : element.getHandle();
+    }
+
+    /**
+     * Method responsible for adding a Variability, or indexing it again with its Order kept.
+     * @param variability Variability.
+     */
+    public void put(Variability variability) {
+        Integer position = this.order.get(variability.getId());
+        this.remove(variability);
+        int key = this.getHandle(variability.getVariationPoint());
+        this.put(this.variationPoints, key, variability);
+        this.keys.put(variability.getId(), key);
+        LinkedHashSet<Integer> handles = new LinkedHashSet<>();
+        for (Element variant : variability.getVariants()) {
+            handles.add(this.getHandle(variant));
+            this.put(this.variants, this.getHandle(variant), variability);
+        }
+        this.members.put(variability.getId(), handles);
+        this.order.put(variability.getId(), (position == null) ? this.sequence++ : position);
+    }
+
+    /**
+     * Method responsible for adding a Variability to a Element Bucket.
+     * @param map Index Map.
+     * @param handle Element Handle.
+     * @param variability Variability.
+     */
+    private void put(HandleMap<LinkedHashMap<String, Variability>> map, int handle, Variability variability) {
+        LinkedHashMap<String, Variability> bucket = map.get(handle);
+        if (bucket == null) {
+            bucket = new LinkedHashMap<>();
+            map.put(handle, bucket);
+        }
+        bucket.put(variability.getId(), variability);
+    }
+
+    /**
+     * Method responsible for moving a indexed Variability after its Variation Point changes.
+     * @param variability Variability.
+     */
+    public void updateVariationPoint(Variability variability) {
+        Integer key    = this.keys.get(variability.getId());
+        int     handle = this.getHandle(variability.getVariationPoint());
+        if ((key != null) && (key != handle)) {
+            this.remove(this.variationPoints, key, variability);
+            this.put(this.variationPoints, handle, variability);
+            this.keys.put(variability.getId(), handle);
+        }
+    }
+
+    /**
+     * Method responsible for updating a Variant of a indexed Variability.
+     * @param variability Variability.
+     * @param element Variant Element.
+     * @param contains Element is Variant.
+     */
+    public void updateVariant(Variability variability, Element element, boolean contains) {
+        LinkedHashSet<Integer> handles = this.members.get(variability.getId());
+        if (handles == null)
+            return;
+        int handle = this.getHandle(element);
+        if (contains && handles.add(handle))
+            this.put(this.variants, handle, variability);
+        else if (!contains && handles.remove(handle))
+            this.remove(this.variants, handle, variability);
+    }
+
+    /**
+     * Method responsible for removing a Variability.
+     * @param variability Variability.
+     */
+    public void remove(Variability variability) {
+        Integer key = this.keys.remove(variability.getId());
+        if (key == null)
+            return;
+        this.remove(this.variationPoints, key, variability);
+        for (int handle : this.members.remove(variability.getId()))
+            this.remove(this.variants, handle, variability);
+        this.order.remove(variability.getId());
+    }
+
+    /**
+     * Method responsible for removing a Variability from a Element Bucket.
+     * @param map Index Map.
+     * @param handle Element Handle.
+     * @param variability Variability.
+     */
+    private void remove(HandleMap<LinkedHashMap<String, Variability>> map, int handle, Variability variability) {
+        LinkedHashMap<String, Variability> bucket = map.get(handle);
+        if (bucket == null)
+            return;
+        bucket.remove(variability.getId());
+        if (bucket.isEmpty())
+            map.remove(handle);
+    }
+
+    /**
+     * Method responsible for returning the Variabilities of a Variation Point.
+     * @param  element Variation Point.
+     * @return Variabilities List.
+     */
+    public List<Variability> getVariationPoints(Element element) {
+        return this.get(this.variationPoints, element);
+    }
+
+    /**
+     * Method responsible for returning the Variabilities of a Variant.
+     * @param  element Variant.
+     * @return Variabilities List.
+     */
+    public List<Variability> getVariants(Element element) {
+        return this.get(this.variants, element);
+    }
+
+    /**
+     * Method responsible for returning the Sorted Variabilities of a Element Bucket.
+     * @param  map Index Map.
+     * @param  element Element.
+     * @return Variabilities List.
+     */
+    private List<Variability> get(HandleMap<LinkedHashMap<String, Variability>> map, Element element) {
+        LinkedHashMap<String, Variability> bucket = map.get(this.getHandle(element));
+        if (bucket == null)
+            return new ArrayList<>();
+        List<Variability> list = new ArrayList<>(bucket.values());
+        if (list.size() > 1)
+            list.sort(this.getComparator());
+        return list;
+    }
+
+    /**
+     * Method responsible for returning the Variability Comparator.
+     * The Variabilities are compared by Name and then by the Order they were indexed.
+     * @return Variability Comparator.
+     */
+    private Comparator<Variability> getComparator() {
+        return new Comparator<Variability>() {
+            @Override
+            public int compare(Variability variabilityA, Variability variabilityB) {
+                int compare = comparator.compare(variabilityA, variabilityB);
+                if (compare != 0)
+                    return compare;
+                return order.get(variabilityA.getId()).compareTo(order.get(variabilityB.getId()));
+            }
+        };
+    }
+}
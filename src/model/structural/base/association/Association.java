@@ -2,10 +2,12 @@ package model.structural.base.association;
 
 import com.mxgraph.util.mxPoint;
 import funct.FunctString;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import model.structural.base.Element;
+import model.structural.base.HandleMap;
 import model.structural.base.interfaces.Exportable;
 import model.structural.base.interfaces.Modelable;
 
@@ -24,11 +26,15 @@ public abstract class Association implements Modelable, Exportable {
     protected Element target;
     protected String  type;
     protected List    points;
+    private   String  hash;
+    private   String  fragment;
+    private final int handle;
     
     /**
      * Default constructor method of Class.
      */
     public Association() {
+        this.handle = HandleMap.nextHandle();
         this.points = new ArrayList();
     }
     
@@ -49,6 +55,15 @@ public abstract class Association implements Modelable, Exportable {
         return this.id;
     }
 
+    /**
+     * Method responsible for returning the Association Handle.
+     * The Handle is a Integer kept alongside the Id and used as Key by the Internal Indexes.
+     * @return Association Handle.
+     */
+    public int getHandle() {
+        return this.handle;
+    }
+
     /**
      * Method responsible for defining the Association Id.
      * @param id Association Id.
@@ -56,6 +71,48 @@ public abstract class Association implements Modelable, Exportable {
     public void setId(String id) {
         this.id = ((this.id == null) || (this.id.trim().equals(""))) ? id : this.id;
     }
+
+    /**
+     * Method responsible for marking the Association and its Diagram as changed.
+     */
+    public void setDirty() {
+        this.hash     = null;
+        this.fragment = null;
+        if ((this.source != null) && (this.source.getDiagram() != null)) {
+            this.source.getDiagram().setDirty(true);
+            this.source.getDiagram().updateAssociation(this);
+        }
+    }
+    
+    /**
+     * Method responsible for clearing the Sorted Views of the Association Diagram after a Change of the Order.
+     */
+    protected void clearViews() {
+        if ((this.source != null) && (this.source.getDiagram() != null))
+            this.source.getDiagram().clearViews();
+    }
+    
+    /**
+     * Method responsible for returning the Association Content Hash.
+     * The Hash is cached until the Association changes.
+     * @return Association Content Hash.
+     */
+    public String getHash() {
+        if (this.hash == null)
+            this.hash = new FunctString().md5(this.getFragment());
+        return this.hash;
+    }
+    
+    /**
+     * Method responsible for returning the Association Export Fragment.
+     * The Fragment is cached until the Association changes, so a Save of a unchanged Association only copies it.
+     * @return Association Export Fragment.
+     */
+    public String getFragment() {
+        if (this.fragment == null)
+            this.fragment = this.export();
+        return this.fragment;
+    }
     
     /**
      * Method responsible for checking if a Element is Source.
@@ -127,6 +184,7 @@ public abstract class Association implements Modelable, Exportable {
      */
     public void setSource(Element source) {
         this.source = source;
+        this.setDirty();
     }
     
     /**
@@ -143,6 +201,7 @@ public abstract class Association implements Modelable, Exportable {
      */
     public void setTarget(Element target) {
         this.target = target;
+        this.setDirty();
     }
     
     /**
@@ -180,6 +239,7 @@ public abstract class Association implements Modelable, Exportable {
     public void addPoint(mxPoint point) {
         if (!this.points.contains(point))
             this.points.add(point);
+        this.setDirty();
     }
     
     /**
@@ -188,6 +248,7 @@ public abstract class Association implements Modelable, Exportable {
      */
     public void removePoint(mxPoint point) {
         this.points.remove(point);
+        this.setDirty();
     }
     
     /**
@@ -228,6 +289,7 @@ public abstract class Association implements Modelable, Exportable {
         this.points = new ArrayList();
         if (this.source.equals(this.target))
             this.setLoopPoints();
+        this.setDirty();
     }
     
     /**
@@ -239,6 +301,7 @@ public abstract class Association implements Modelable, Exportable {
             for (mxPoint point : this.getPoints())
                 point.setX(this.getValue(new Double(point.getX()).intValue(), distance));
         }
+        this.setDirty();
     }
     
     /**
@@ -250,6 +313,7 @@ public abstract class Association implements Modelable, Exportable {
             for (mxPoint point : this.getPoints())
                 point.setY(this.getValue(new Double(point.getY()).intValue(), distance));
         }
+        this.setDirty();
     }
     
     /**
@@ -269,6 +333,7 @@ public abstract class Association implements Modelable, Exportable {
     public void setLoopPoints() {
         this.points.add(new mxPoint(this.source.getGlobalX() + this.source.getWidth() + 150, this.source.getGlobalY() + 20));
         this.points.add(new mxPoint(this.source.getGlobalX() + this.source.getWidth() + 150, this.source.getGlobalY() + 70));
+        this.setDirty();
     }
     
     /**
@@ -277,6 +342,7 @@ public abstract class Association implements Modelable, Exportable {
      */
     public void setPoints(List<mxPoint> points) {
         this.points = (points != null) ? points : new ArrayList();
+        this.setDirty();
     }
     
     /**
@@ -335,6 +401,11 @@ public abstract class Association implements Modelable, Exportable {
         return export;
     }
     
+    @Override
+    public void export(Appendable appendable) throws IOException {
+        appendable.append(this.getFragment());
+    }
+    
     @Override
     public boolean equals(Object object) {
         if (object instanceof Association == false)
@@ -4,6 +4,7 @@ import com.mxgraph.util.mxConstants;
 import java.util.HashMap;
 import java.util.Map;
 import model.structural.base.Element;
+import model.structural.base.StyleRegistry;
 
 /**
  * <p>Class of Model <b>Dependency</b>.</p>
@@ -38,15 +39,18 @@ public class Dependency extends Association {
 
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_DASHED,    "1");
-               style.put(mxConstants.STYLE_EDITABLE,  "0");
-               style.put(mxConstants.STYLE_STARTSIZE, "15");
-               style.put(mxConstants.STYLE_ENDSIZE,   "15");
-               style.put(mxConstants.STYLE_FILLCOLOR,   "#FFFFFF");
-               style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
-               style.put(mxConstants.STYLE_ENDARROW,   mxConstants.ARROW_OPEN);
-               style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
-        return style;
+        Map<String, Object> style = StyleRegistry.getStyle("styleDependency");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_DASHED,    "1");
+                            style.put(mxConstants.STYLE_EDITABLE,  "0");
+                            style.put(mxConstants.STYLE_STARTSIZE, "15");
+                            style.put(mxConstants.STYLE_ENDSIZE,   "15");
+                            style.put(mxConstants.STYLE_FILLCOLOR,   "#FFFFFF");
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
+                            style.put(mxConstants.STYLE_ENDARROW,   mxConstants.ARROW_OPEN);
+                            style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
+        return StyleRegistry.putStyle("styleDependency", style);
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.mxgraph.util.mxConstants;
 import java.util.HashMap;
 import java.util.Map;
 import model.structural.base.Element;
+import model.structural.base.StyleRegistry;
 
 /**
  * <p>Class of Model <b>Generalization</b>.</p>
@@ -56,15 +57,18 @@ public class Generalization extends Association {
 
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_DASHED,   "0");
-               style.put(mxConstants.STYLE_ENDSIZE,  "15");
-               style.put(mxConstants.STYLE_EDITABLE, "0");
-               style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
-               style.put(mxConstants.STYLE_ENDFILL,     "#FFFFFF");
-               style.put(mxConstants.STYLE_ENDARROW,   mxConstants.ARROW_BLOCK);
-               style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
-        return style;
+        Map<String, Object> style = StyleRegistry.getStyle("styleGeneralization");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_DASHED,   "0");
+                            style.put(mxConstants.STYLE_ENDSIZE,  "15");
+                            style.put(mxConstants.STYLE_EDITABLE, "0");
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+                            style.put(mxConstants.STYLE_ENDFILL,     "#FFFFFF");
+                            style.put(mxConstants.STYLE_ENDARROW,   mxConstants.ARROW_BLOCK);
+                            style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
+        return StyleRegistry.putStyle("styleGeneralization", style);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package model.structural.base.association;
 
+import java.io.IOException;
 import model.structural.base.Element;
 import model.structural.base.Stereotype;
 import model.structural.base.interfaces.Exportable;
@@ -16,6 +17,7 @@ import model.structural.base.interfaces.Exportable;
 public class Link implements Exportable {
     private Element    element;
     private Stereotype stereotype;
+    private String     fragment;
     
     /**
      * Default constructor method of Class.
@@ -62,7 +64,8 @@ public class Link implements Exportable {
      * @param element Link Element.
      */
     public void setElement(Element element) {
-        this.element = element;
+        this.element  = element;
+        this.fragment = null;
     }
 
     /**
@@ -88,6 +91,7 @@ public class Link implements Exportable {
      */
     public void setStereotype(Stereotype stereotype) {
         this.stereotype = stereotype;
+        this.fragment   = null;
     }
     
     /**
@@ -107,6 +111,19 @@ public class Link implements Exportable {
         return export;
     }
     
+    /**
+     * Method responsible for exporting the Link to a Appendable.
+     * The Export Fragment is cached until the Element or the Stereotype of the Link changes.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
+     */
+    @Override
+    public void export(Appendable appendable) throws IOException {
+        if (this.fragment == null)
+            this.fragment = this.export();
+        appendable.append(this.fragment);
+    }
+    
     @Override
     public String toString() {
         return this.element.toString() + " - " + this.stereotype.toString();
@@ -138,7 +138,8 @@ public final class Measure implements Exportable {
      */
     public void setValue(org.w3c.dom.Element element) {
         try {
-            this.value = Double.parseDouble(element.getAttribute("valor").trim());
+            String value = element.hasAttribute("value") ? element.getAttribute("value") : element.getAttribute("valor");
+            this.value = Double.parseDouble(value.trim());
         }catch (NumberFormatException exception) {
             this.value = 0.0d;
         }
@@ -1,5 +1,7 @@
 package model.structural.base.interfaces;
 
+import java.io.IOException;
+
 /**
  * <p>Inteface of Model <b>Exportable</b>.</p>
  * <p>Inteface responsible for defining the <b>Exporting Data</b> in SMartyModeling.</p>
@@ -13,4 +15,13 @@ public interface Exportable {
      * @return Exporting Data.
      */
     public abstract String export();
+    
+    /**
+     * Method responsible for exporting Datas to a Appendable.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
+     */
+    public default void export(Appendable appendable) throws IOException {
+        appendable.append(this.export());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package model.structural.base.interfaces;
+
+import java.util.List;
+import model.structural.base.DiagramHandle;
+
+/**
+ * <p>Inteface of Model <b>Hydrator</b>.</p>
+ * <p>Inteface responsible for defining the <b>Diagram Hydration</b> in SMartyModeling.</p>
+ * @author Leandro
+ * @since  2026-10-18
+ */
+public interface Hydrator {
+    
+    /**
+     * Method responsible for materializing the Diagrams of the Handles.
+     * @param handles Diagram Handles.
+     */
+    public abstract void hydrate(List<DiagramHandle> handles);
+}
\ No newline at end of file
@@ -1,11 +1,14 @@
 package model.structural.base.product;
 
 import funct.FunctString;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import model.structural.base.Diagram;
 import model.structural.base.Element;
+import model.structural.base.IdAllocator;
 import model.structural.base.association.Association;
 import model.structural.base.interfaces.Exportable;
 import model.structural.base.variability.Mutex;
@@ -29,16 +32,22 @@ public class Instance implements Exportable {
     private Diagram diagram;
     private HashMap artifacts;
     private HashMap relationships;
+    private HashMap<String, LinkedHashMap<String, Artifact>> elementArtifacts;
+    private HashMap<String, LinkedHashMap<String, Relationship>> associationRelationships;
+    private IdAllocator ids;
     
     /**
      * Default constructor method of Class.
      */
     public Instance() {
-        this.name          = "NewInstance";
-        this.product       = null;
-        this.diagram       = null;
-        this.artifacts     = new HashMap<>();
-        this.relationships = new HashMap<>();
+        this.name                     = "NewInstance";
+        this.product                  = null;
+        this.diagram                  = null;
+        this.artifacts                = new HashMap<>();
+        this.relationships            = new HashMap<>();
+        this.elementArtifacts         = new HashMap<>();
+        this.associationRelationships = new HashMap<>();
+        this.ids                      = new IdAllocator();
     }
     
     /**
@@ -145,10 +154,9 @@ public class Instance implements Exportable {
      * @return Next Artifact Id.
      */
     public String nextArtifactId() {
-        Integer index  = this.artifacts.size() + 1;
-        String  nextId = "ARTIFACT#" + index;
+        String  nextId = "ARTIFACT#" + this.ids.next("ARTIFACT#");
         while (this.artifacts.get(nextId) != null)
-                nextId = "ARTIFACT#" + ++index;
+                nextId = "ARTIFACT#" + this.ids.next("ARTIFACT#");
         return  nextId;
     }
     
@@ -159,7 +167,42 @@ public class Instance implements Exportable {
     public void addArtifact(Artifact artifact) {
         artifact.setId(this.nextArtifactId());
         artifact.setInstance(this);
-        this.artifacts.put(artifact.getId(), artifact);
+        Artifact old = (Artifact) this.artifacts.put(artifact.getId(), artifact);
+        this.ids.declare(artifact.getId());
+        if ((old != null) && (old != artifact))
+            this.unindexArtifact(old);
+        this.indexArtifact(artifact);
+    }
+    
+    /**
+     * Method responsible for adding a Artifact to the Element Index.
+     * @param artifact Artifact.
+     */
+    private void indexArtifact(Artifact artifact) {
+        if (artifact.getElement() != null) {
+            this.getBucket(this.elementArtifacts, artifact.getElement().getId()).put(artifact.getId(), artifact);
+            this.updateProduct(artifact.getElement());
+        }
+    }
+    
+    /**
+     * Method responsible for removing a Artifact from the Element Index.
+     * @param artifact Artifact.
+     */
+    private void unindexArtifact(Artifact artifact) {
+        if (artifact.getElement() != null) {
+            this.removeBucket(this.elementArtifacts, artifact.getElement().getId(), artifact.getId());
+            this.updateProduct(artifact.getElement());
+        }
+    }
+    
+    /**
+     * Method responsible for updating the Product Index of a Element.
+     * @param element Element.
+     */
+    private void updateProduct(Element element) {
+        if (this.product != null)
+            this.product.updateElement(this, element, this.contains(element));
     }
     
     /**
@@ -177,11 +220,8 @@ public class Instance implements Exportable {
      * @return Artifact found.
      */
     public Artifact getArtifact(Element element) {
-        for (Artifact  artifact : this.getArtifactsList()) {
-            if (artifact.getElement().equals(element))
-                return artifact;
-        }
-        return null;
+        LinkedHashMap<String, Artifact> bucket = (element == null) ? null : this.elementArtifacts.get(element.getId());
+        return  (bucket == null) ? null : bucket.values().iterator().next();
     }
     
     /**
@@ -200,11 +240,7 @@ public class Instance implements Exportable {
      * @return Instance contains Element.
      */
     public boolean contains(Element element) {
-        for (Artifact artefact : this.getArtifactsList()) {
-            if (artefact.getElement().equals(element))
-                return true;
-        }
-        return false;
+        return (element != null) && this.elementArtifacts.containsKey(element.getId());
     }
     
     /**
@@ -213,7 +249,9 @@ public class Instance implements Exportable {
      */
     public void removeArtifact(Artifact artifact) {
         this.removeRelationships(artifact);
-        this.artifacts.remove(artifact.getId());
+        Artifact old = (Artifact) this.artifacts.remove(artifact.getId());
+        if (old != null)
+            this.unindexArtifact(old);
     }
     
     /**
@@ -247,7 +285,17 @@ public class Instance implements Exportable {
      * @param artifacts Instance Artifacts.
      */
     public void setArtifacts(HashMap<String, Artifact> artifacts) {
-        this.artifacts = (HashMap) artifacts.clone();
+        List<Artifact> old    = this.getArtifactsList();
+        this.artifacts        = (HashMap) artifacts.clone();
+        this.elementArtifacts = new HashMap<>();
+        for (Artifact artifact : this.getArtifactsList()) {
+            this.ids.declare(artifact.getId());
+            this.indexArtifact(artifact);
+        }
+        for (Artifact artifact : old) {
+            if (artifact.getElement() != null)
+                this.updateProduct(artifact.getElement());
+        }
     }
     
     /**
@@ -263,10 +311,9 @@ public class Instance implements Exportable {
      * @return Next Relationship Id.
      */
     public String nextRelationshipId() {
-        Integer index  = this.relationships.size() + 1;
-        String  nextId = "RELATIONSHIP#" + index;
+        String  nextId = "RELATIONSHIP#" + this.ids.next("RELATIONSHIP#");
         while (this.relationships.get(nextId) != null)
-                nextId = "RELATIONSHIP#" + ++index;
+                nextId = "RELATIONSHIP#" + this.ids.next("RELATIONSHIP#");
         return  nextId;
     }
     
@@ -277,8 +324,29 @@ public class Instance implements Exportable {
     public void addRelationship(Relationship relationship) {
         relationship.setId(this.nextRelationshipId());
         relationship.setInstance(this);
-        if (this.relationships.get(relationship.getId()) == null)
+        if (this.relationships.get(relationship.getId()) == null) {
             this.relationships.put(relationship.getId(), relationship);
+            this.ids.declare(relationship.getId());
+            this.indexRelationship(relationship);
+        }
+    }
+    
+    /**
+     * Method responsible for adding a Relationship to the Association Index.
+     * @param relationship Relationship.
+     */
+    private void indexRelationship(Relationship relationship) {
+        if (relationship.getAssociation() != null)
+            this.getBucket(this.associationRelationships, relationship.getAssociation().getId()).put(relationship.getId(), relationship);
+    }
+    
+    /**
+     * Method responsible for removing a Relationship from the Association Index.
+     * @param relationship Relationship.
+     */
+    private void unindexRelationship(Relationship relationship) {
+        if (relationship.getAssociation() != null)
+            this.removeBucket(this.associationRelationships, relationship.getAssociation().getId(), relationship.getId());
     }
     
     /**
@@ -296,11 +364,18 @@ public class Instance implements Exportable {
      * @return Relationship found.
      */
     public Relationship getRelationship(Association association) {
-        for (Relationship relationship : this.getRelationshipsList()) {
-            if (relationship.getAssociation().equals(association))
-                return relationship;
-        }
-        return null;
+        List<Relationship> list = this.getRelationships(association);
+        return list.isEmpty() ? null : list.get(0);
+    }
+    
+    /**
+     * Method responsible for returning the Relationships by Association.
+     * @param  association Association.
+     * @return Relationships found.
+     */
+    public List<Relationship> getRelationships(Association association) {
+        LinkedHashMap<String, Relationship> bucket = (association == null) ? null : this.associationRelationships.get(association.getId());
+        return  (bucket == null) ? new ArrayList<>() : new ArrayList<>(bucket.values());
     }
     
     /**
@@ -316,7 +391,9 @@ public class Instance implements Exportable {
      * @param  relationship Relationship.
      */
     public void removeRelationship(Relationship relationship) {
-        this.relationships.remove(relationship.getId());
+        Relationship old = (Relationship) this.relationships.remove(relationship.getId());
+        if (old != null)
+            this.unindexRelationship(old);
     }
     
     /**
@@ -324,7 +401,12 @@ public class Instance implements Exportable {
      * @param relationships Instance Relationships.
      */
     public void setRelationships(HashMap<String, Relationship> relationships) {
-        this.relationships = (HashMap) relationships.clone();
+        this.relationships            = (HashMap) relationships.clone();
+        this.associationRelationships = new HashMap<>();
+        for (Relationship relationship : this.getRelationshipsList()) {
+            this.ids.declare(relationship.getId());
+            this.indexRelationship(relationship);
+        }
     }
     
     /**
@@ -339,8 +421,47 @@ public class Instance implements Exportable {
      * Method responsible for reseting the Instance.
      */
     public void reset() {
-        this.artifacts     = new HashMap();
-        this.relationships = new HashMap();
+        List<Artifact> old = this.getArtifactsList();
+        this.artifacts                = new HashMap();
+        this.relationships            = new HashMap();
+        this.elementArtifacts         = new HashMap<>();
+        this.associationRelationships = new HashMap<>();
+        for (Artifact artifact : old) {
+            if (artifact.getElement() != null)
+                this.updateProduct(artifact.getElement());
+        }
+    }
+    
+    /**
+     * Method responsible for returning the Bucket of a Id in a Index, creating it if needed.
+     * @param  <T> Indexed Type.
+     * @param  index Index.
+     * @param  id Indexed Id.
+     * @return Bucket Map.
+     */
+    private <T> LinkedHashMap<String, T> getBucket(HashMap<String, LinkedHashMap<String, T>> index, String id) {
+        LinkedHashMap<String, T> bucket = index.get(id);
+        if (bucket == null) {
+                bucket = new LinkedHashMap<>();
+                index.put(id, bucket);
+        }
+        return  bucket;
+    }
+    
+    /**
+     * Method responsible for removing a Key from the Bucket of a Id in a Index.
+     * @param <T> Indexed Type.
+     * @param index Index.
+     * @param id Indexed Id.
+     * @param key Bucket Key.
+     */
+    private <T> void removeBucket(HashMap<String, LinkedHashMap<String, T>> index, String id, String key) {
+        LinkedHashMap<String, T> bucket = index.get(id);
+        if (bucket != null) {
+            bucket.remove(key);
+            if (bucket.isEmpty())
+                index.remove(id);
+        }
     }
     
     /**
@@ -348,10 +469,8 @@ public class Instance implements Exportable {
      * @param association Association.
      */
     public void remove(Association association) {
-        for (Relationship relationship : this.getRelationshipsList()) {
-            if (relationship.getAssociation().equals(association))
-                this.removeRelationship(relationship);
-        }
+        for (Relationship relationship : this.getRelationships(association))
+            this.removeRelationship(relationship);
     }
     
     /**
@@ -464,24 +583,22 @@ public class Instance implements Exportable {
     
     /**
      * Method responsible for exporting the Artifacts.
-     * @return Artifacts.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    private String exportArtifacts() {
-        String export  = "";
+    private void exportArtifacts(Appendable appendable) throws IOException {
         for (Artifact artifact : this.getArtifactsList())
-               export += artifact.export();
-        return export;
+            artifact.export(appendable);
     }
     
     /**
      * Method responsible for exporting the Relationships.
-     * @return Relationships.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    private String exportRelationships() {
-        String export  = "";
+    private void exportRelationships(Appendable appendable) throws IOException {
         for (Relationship relationship : this.getRelationshipsList())
-               export +=  relationship.export();
-        return export;
+            relationship.export(appendable);
     }
     
     /**
@@ -508,11 +625,19 @@ public class Instance implements Exportable {
         
     @Override
     public String export() {
-        String export  = "      <instance id=\"" + this.id + "\" name=\"" + this.name + "\"" + " diagram=\"" + this.diagram.getId() + "\">\n";
-               export += this.exportArtifacts();
-               export += this.exportRelationships();
-               export += "      </instance>\n";
-        return export;
+        StringBuilder export = new StringBuilder();
+        try {
+            this.export(export);
+        } catch (IOException exception) {}
+        return export.toString();
+    }
+    
+    @Override
+    public void export(Appendable appendable) throws IOException {
+        appendable.append("      <instance id=\"").append(this.id).append("\" name=\"").append(this.name).append("\" diagram=\"").append(this.diagram.getId()).append("\">\n");
+        this.exportArtifacts(appendable);
+        this.exportRelationships(appendable);
+        appendable.append("      </instance>\n");
     }
     
     @Override
@@ -1,11 +1,15 @@
 package model.structural.base.product;
 
 import funct.FunctString;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import model.structural.base.Diagram;
 import model.structural.base.Element;
+import model.structural.base.IdAllocator;
+import model.structural.base.Project;
 import model.structural.base.association.Association;
 import model.structural.base.interfaces.Exportable;
 
@@ -22,14 +26,20 @@ public class Product implements Exportable {
     private String  version;
     private String  description;
     private HashMap instances;
+    private HashMap<String, LinkedHashMap<String, Instance>> elementInstances;
+    private Project project;
+    private IdAllocator ids;
     
     /**
      * Default constructor method of Class.
      */
     public Product() {
-        this.version     = "1.0";
-        this.description = "";
-        this.instances   = new HashMap<>();
+        this.version          = "1.0";
+        this.description      = "";
+        this.instances        = new HashMap<>();
+        this.elementInstances = new HashMap<>();
+        this.project          = null;
+        this.ids              = new IdAllocator();
     }
     
     /**
@@ -109,6 +119,14 @@ public class Product implements Exportable {
         this.description = description;
     }
     
+    /**
+     * Method responsible for setting the Product Project.
+     * @param project Product Project.
+     */
+    public void setProject(Project project) {
+        this.project = project;
+    }
+    
     /**
      * Method responsible for returning if Product is Empty.
      * @return Product is Empty.
@@ -173,10 +191,9 @@ public class Product implements Exportable {
      * @return Next Instance Id.
      */
     public String nextInstanceId() {
-        Integer index  = this.instances.size();
-        String  nextId = "INSTANCE#" + ++index;
+        String  nextId = "INSTANCE#" + this.ids.next("INSTANCE#");
         while (this.instances.get(nextId) != null)
-                nextId = "INSTANCE#" + ++index;
+                nextId = "INSTANCE#" + this.ids.next("INSTANCE#");
         return  nextId;
     }
     
@@ -188,6 +205,8 @@ public class Product implements Exportable {
         instance.setId(this.nextInstanceId());
         instance.setProduct(this);
         this.instances.put(instance.getId(), instance);
+        this.ids.declare(instance.getId());
+        this.index(instance, true);
     }
     
     /**
@@ -195,7 +214,56 @@ public class Product implements Exportable {
      * @param instance Instance.
      */
     public void removeInstance(Instance instance) {
-        this.instances.remove(instance.getId());
+        if (this.instances.remove(instance.getId()) != null)
+            this.index(instance, false);
+    }
+    
+    /**
+     * Method responsible for adding or removing the Elements of a Instance in the Element Index.
+     * @param instance Instance.
+     * @param contains Product contains the Instance.
+     */
+    private void index(Instance instance, boolean contains) {
+        for (Artifact artifact : instance.getArtifactsList()) {
+            if (artifact.getElement() != null)
+                this.updateElement(instance, artifact.getElement(), contains && instance.contains(artifact.getElement()));
+        }
+    }
+    
+    /**
+     * Method responsible for updating the Instances Index of a Element.
+     * @param instance Instance.
+     * @param element Element.
+     * @param contains Instance contains the Element.
+     */
+    public void updateElement(Instance instance, Element element, boolean contains) {
+        if (contains && (this.instances.get(instance.getId()) == instance)) {
+            LinkedHashMap<String, Instance> bucket = this.elementInstances.get(element.getId());
+            if (bucket == null) {
+                    bucket = new LinkedHashMap<>();
+                    this.elementInstances.put(element.getId(), bucket);
+            }
+            bucket.put(instance.getId(), instance);
+        }else {
+            LinkedHashMap<String, Instance> bucket = this.elementInstances.get(element.getId());
+            if (bucket != null) {
+                bucket.remove(instance.getId());
+                if (bucket.isEmpty())
+                    this.elementInstances.remove(element.getId());
+            }
+        }
+        if (this.project != null)
+            this.project.updateProduct(this, element, this.contains(element));
+    }
+    
+    /**
+     * Method responsible for returning the Instances by Element.
+     * @param  element Element.
+     * @return Instances found.
+     */
+    public List<Instance> getInstances(Element element) {
+        LinkedHashMap<String, Instance> bucket = (element == null) ? null : this.elementInstances.get(element.getId());
+        return  (bucket == null) ? new ArrayList<>() : new ArrayList<>(bucket.values());
     }
     
     /**
@@ -204,11 +272,7 @@ public class Product implements Exportable {
      * @return Product contains a Element.
      */
     public boolean contains(Element element) {
-        for (Instance instance : this.getInstancesList()) {
-            if (instance.contains(element))
-                return true;
-        }
-        return false;
+        return (element != null) && this.elementInstances.containsKey(element.getId());
     }
     
     /**
@@ -227,7 +291,7 @@ public class Product implements Exportable {
      * @param element Element.
      */
     public void remove(Element element) {
-        for (Instance instance : this.getInstancesList())
+        for (Instance instance : this.getInstances(element))
             instance.remove(element);
     }
     
@@ -242,13 +306,12 @@ public class Product implements Exportable {
     
     /**
      * Method responsible for exporting the Instances.
-     * @return Instances.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    private String exportInstances() {
-        String export  = "";
+    private void exportInstances(Appendable appendable) throws IOException {
         for (Instance instance : this.getInstancesList())
-               export += instance.export();
-        return export;
+            instance.export(appendable);
     }
     
     /**
@@ -256,7 +319,15 @@ public class Product implements Exportable {
      * @param instances Product Instances.
      */
     public void setInstances(HashMap<String, Instance> instances) {
-        this.instances = instances;
+        for (Instance instance : this.getInstancesList())
+            this.index(instance, false);
+        this.instances        = instances;
+        this.elementInstances = new HashMap<>();
+        for (Instance instance : this.getInstancesList()) {
+            this.ids.declare(instance.getId());
+            instance.setProduct(this);
+            this.index(instance, true);
+        }
     }
     
     /**
@@ -269,11 +340,19 @@ public class Product implements Exportable {
     
     @Override
     public String export() {
-        String export  = "    <product id=\""  + this.id + "\" name=\"" + this.name + "\" version=\"" + this.version + "\">\n";
-               export += "      <description>" + this.description + "</description>\n";
-               export += this.exportInstances();
-               export += "    </product>\n";
-        return export;
+        StringBuilder export = new StringBuilder();
+        try {
+            this.export(export);
+        } catch (IOException exception) {}
+        return export.toString();
+    }
+    
+    @Override
+    public void export(Appendable appendable) throws IOException {
+        appendable.append("    <product id=\"").append(this.id).append("\" name=\"").append(this.name).append("\" version=\"").append(this.version).append("\">\n");
+        appendable.append("      <description>").append(this.description).append("</description>\n");
+        this.exportInstances(appendable);
+        appendable.append("    </product>\n");
     }
     
     @Override
@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.List;
 import model.controller.structural.base.requirement.ControllerRequirement;
 import model.structural.base.Element;
+import model.structural.base.Project;
 import model.structural.base.interfaces.Exportable;
 
 /**
@@ -21,6 +22,7 @@ public class Requirement implements Exportable {
     private String  name;
     private String  description;
     private HashMap objects;
+    private Project project;
     
      /**
      * Default constructor method of Class.
@@ -139,6 +141,16 @@ public class Requirement implements Exportable {
      */
     public void addElement(Element element) {
         this.objects.put(element.getId(), element);
+        if (this.project != null)
+            this.project.updateRequirement(this, element, true);
+    }
+    
+    /**
+     * Method responsible for defining the Project that indexes the Requirement by its Elements.
+     * @param project Project.
+     */
+    public void setProject(Project project) {
+        this.project = project;
     }
     
     /**
@@ -147,7 +159,7 @@ public class Requirement implements Exportable {
      * @return Requirement contains a Element.
      */
     public boolean contains(Element element) {
-        return this.objects.values().contains(element);
+        return element.equals(this.objects.get(element.getId()));
     }
     
     /**
@@ -155,7 +167,8 @@ public class Requirement implements Exportable {
      * @param element Element.
      */
     public void removeElement(Element element) {
-        this.objects.remove(element.getId());
+        if ((this.objects.remove(element.getId()) != null) && (this.project != null))
+            this.project.updateRequirement(this, element, false);
     }
     /**
      * Method responsible for returning the All Elements List.
@@ -197,8 +210,10 @@ public class Requirement implements Exportable {
      */
     private String exportTraceability(String type) {
         String export  = "";
-        for (Element element : this.getAllElements())
-               export += "    <element=\"" + element.getId() +  "\"/>\n";
+        for (Element element : this.getAllElements()) {
+            if (element.getDiagramType().equals(type))
+               export += "    <element id=\"" + element.getId() +  "\"/>\n";
+        }
         return export;
     }
     
@@ -1,9 +1,10 @@
 package model.structural.base.traceability;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import model.structural.base.Element;
+import model.structural.base.Project;
 import model.structural.base.interfaces.Exportable;
 
 /**
@@ -18,13 +19,14 @@ public class Traceability implements Exportable {
     private String id;
     private String name;
     private String description;
-    private List<Element> elements;
+    private LinkedHashSet<Element> elements;
+    private Project project;
     
      /**
      * Default constructor method of Class.
      */
     public Traceability() {
-        this.elements = new LinkedList<>();
+        this.elements = new LinkedHashSet<>();
     }
     
     /**
@@ -35,7 +37,7 @@ public class Traceability implements Exportable {
         this.id          = element.getAttribute("id");
         this.name        = element.getAttribute("name");
         this.description = "";
-        this.elements    = new ArrayList<>();
+        this.elements    = new LinkedHashSet<>();
     }
     
     /**
@@ -91,7 +93,7 @@ public class Traceability implements Exportable {
      * @return Traceability Elements.
      */
     public List<Element> getElements() {
-        return this.elements;
+        return new ArrayList<>(this.elements);
     }
     
     /**
@@ -99,22 +101,31 @@ public class Traceability implements Exportable {
      * @return Elements List.
      */
     public String getElementsList() {
-        if (this.elements.size() == 1)
-            return "{" + this.elements.get(0).getName() + "}";
-        String toReturn  = "{" + this.elements.get(0) + ", \n";
-        for (int i = 1; i < this.elements.size() - 1; i++)
-               toReturn += this.elements.get(i).getName() + ", \n";
-        toReturn += this.elements.get(this.elements.size() - 1).getName() + "}";
+        List<Element> elements = this.getElements();
+        if (elements.size() == 1)
+            return "{" + elements.get(0).getName() + "}";
+        String toReturn  = "{" + elements.get(0) + ", \n";
+        for (int i = 1; i < elements.size() - 1; i++)
+               toReturn += elements.get(i).getName() + ", \n";
+        toReturn += elements.get(elements.size() - 1).getName() + "}";
         return toReturn;
     }
     
+    /**
+     * Method responsible for defining the Project that indexes the Traceability by its Elements.
+     * @param project Project.
+     */
+    public void setProject(Project project) {
+        this.project = project;
+    }
+    
     /**
      * Method responsible for adding a Element.
      * @param element Element.
      */
     public void addElement(Element element) {
-        if (this.elements.contains(element) == false)
-            this.elements.add(element);
+        if (this.elements.add(element) && (this.project != null))
+            this.project.updateTraceability(this, element, true);
     }
     
     /**
@@ -131,8 +142,8 @@ public class Traceability implements Exportable {
      * @param element Element.
      */
     public void removeElement(Element element) {
-        if (this.elements.contains(element))
-            this.elements.remove(element);
+        if (this.elements.remove(element) && (this.project != null))
+            this.project.updateTraceability(this, element, false);
     }
     
     /**
@@ -148,7 +159,10 @@ public class Traceability implements Exportable {
      * @param elements Traceability Elements.
      */
     public void setElements(List<Element> elements) {
-        this.elements = elements;
+        for (Element element : this.getElements())
+            this.removeElement(element);
+        for (Element element : elements)
+            this.addElement(element);
     }
     
     /**
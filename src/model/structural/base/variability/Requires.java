@@ -3,6 +3,7 @@ package model.structural.base.variability;
 import com.mxgraph.util.mxConstants;
 import java.util.HashMap;
 import java.util.Map;
+import model.structural.base.StyleRegistry;
 import model.structural.base.association.Association;
 import model.structural.base.Element;
 
@@ -39,15 +40,18 @@ public class Requires extends Association {
 
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_DASHED,   "1");
-               style.put(mxConstants.STYLE_MOVABLE,  "0");
-               style.put(mxConstants.STYLE_EDITABLE, "0");
-               style.put(mxConstants.STYLE_ENDSIZE,  "15");
-               style.put(mxConstants.STYLE_FONTSIZE, "15");
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
-               style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
-               style.put(mxConstants.STYLE_ENDARROW, mxConstants.ARROW_OPEN);
-        return style;
+        Map<String, Object> style = StyleRegistry.getStyle("styleRequires");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_DASHED,   "1");
+                            style.put(mxConstants.STYLE_MOVABLE,  "0");
+                            style.put(mxConstants.STYLE_EDITABLE, "0");
+                            style.put(mxConstants.STYLE_ENDSIZE,  "15");
+                            style.put(mxConstants.STYLE_FONTSIZE, "15");
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
+                            style.put(mxConstants.STYLE_ENDARROW, mxConstants.ARROW_OPEN);
+        return StyleRegistry.putStyle("styleRequires", style);
     }
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package model.structural.base.variability;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import model.structural.base.Diagram;
 import model.structural.base.Element;
 import model.structural.base.interfaces.Exportable;
 
@@ -22,6 +25,8 @@ public class Variability implements Exportable {
     private Integer minimum;
     private Integer maximum;
     private List<Element> variants;
+    private Set<String>   members;
+    private Diagram diagram;
     
     /**
      * Default constructor method of Class.
@@ -32,6 +37,7 @@ public class Variability implements Exportable {
         this.constraint     = "Exclusive";
         this.bindingTime    = "DESIGN_TIME";
         this.variants       = new ArrayList<>();
+        this.members        = new HashSet<>();
     }
     
     /**
@@ -52,9 +58,23 @@ public class Variability implements Exportable {
         this.name        = element.getAttribute("name");
         this.constraint  = element.getAttribute("constraint");
         this.bindingTime = element.getAttribute("bindingTime");
-        this.minimum     = Integer.parseInt(element.getAttribute("min"));
-        this.maximum     = Integer.parseInt(element.getAttribute("max"));
+        this.minimum     = this.getInteger(element.getAttribute("min"));
+        this.maximum     = this.getInteger(element.getAttribute("max"));
         this.variants    = new ArrayList<>();
+        this.members     = new HashSet<>();
+    }
+
+    /**
+     * Method responsible for returning the Integer Value of a Attribute.
+     * @param  value Attribute Value.
+     * @return Integer Value or null.
+     */
+    private Integer getInteger(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        }catch (NumberFormatException exception) {
+            return null;
+        }
     }
 
     /**
@@ -70,7 +90,41 @@ public class Variability implements Exportable {
      * @param id Variability Id.
      */
     public void setId(String id) {
-        this.id = id;
+        this.id = ((this.id == null) || (this.id.trim().equals(""))) ? id : this.id;
+    }
+
+    /**
+     * Method responsible for returning the Id of a Variant.
+     * @param  variant Variant.
+     * @return Variant Id.
+     */
+    private String getId(Element variant) {
+        return (variant == null) ? null : variant.getId();
+    }
+
+    /**
+     * Method responsible for marking the Variability Diagram as changed.
+     */
+    private void setDirty() {
+        if ((this.variationPoint != null) && (this.variationPoint.getDiagram() != null))
+            this.variationPoint.getDiagram().setDirty(true);
+    }
+
+    /**
+     * Method responsible for clearing the Sorted Views of the Variability Diagram after a Change of the Name.
+     */
+    private void clearViews() {
+        if ((this.variationPoint != null) && (this.variationPoint.getDiagram() != null))
+            this.variationPoint.getDiagram().clearViews();
+    }
+
+    /**
+     * Method responsible for defining the Variability Diagram.
+     * The Diagram is notified of the Changes of the Variation Point and of the Variants.
+     * @param diagram Variability Diagram.
+     */
+    public void setDiagram(Diagram diagram) {
+        this.diagram = diagram;
     }
 
     /**
@@ -87,6 +141,8 @@ public class Variability implements Exportable {
      */
     public void setName(String name) {
         this.name = name;
+        this.clearViews();
+        this.setDirty();
     }
     
     /**
@@ -103,6 +159,9 @@ public class Variability implements Exportable {
      */
     public void setVariationPoint(Element variationPoint) {
         this.variationPoint = variationPoint;
+        if (this.diagram != null)
+            this.diagram.updateVariationPoint(this);
+        this.setDirty();
     }
 
     /**
@@ -119,6 +178,7 @@ public class Variability implements Exportable {
      */
     public void setConstraint(String constraint) {
         this.constraint = constraint;
+        this.setDirty();
     }
 
     /**
@@ -135,6 +195,7 @@ public class Variability implements Exportable {
      */
     public void setBindingTime(String bindingTime) {
         this.bindingTime = bindingTime;
+        this.setDirty();
     }
 
     /**
@@ -151,6 +212,7 @@ public class Variability implements Exportable {
      */
     public void setMinimum(Integer minimum) {
         this.minimum = minimum;
+        this.setDirty();
     }
 
     /**
@@ -167,6 +229,7 @@ public class Variability implements Exportable {
      */
     public void setMaximum(Integer maximum) {
         this.maximum = maximum;
+        this.setDirty();
     }
     
     /**
@@ -196,8 +259,12 @@ public class Variability implements Exportable {
      * @param variant Variant.
      */
     public void addVariant(Element variant) {
-        if (this.variants.contains(variant) == false)
+        if (this.members.add(this.getId(variant))) {
             this.variants.add(variant);
+            if (this.diagram != null)
+                this.diagram.updateVariant(this, variant, true);
+        }
+        this.setDirty();
     }
     
     /**
@@ -206,7 +273,7 @@ public class Variability implements Exportable {
      * @return Element is Variant.
      */
     public boolean isVariant(Element element) {
-        return this.variants.contains(element);
+        return this.members.contains(this.getId(element));
     }
     
     /**
@@ -227,8 +294,12 @@ public class Variability implements Exportable {
      * @param variant Variant.
      */
     public void removeVariant(Element variant) {
-        if (this.variants.contains(variant))
+        if (this.members.remove(this.getId(variant))) {
             this.variants.remove(variant);
+            if (this.diagram != null)
+                this.diagram.updateVariant(this, variant, false);
+        }
+        this.setDirty();
     }
     
     /**
@@ -245,6 +316,12 @@ public class Variability implements Exportable {
      */
     public void setVariants(List<Element> variants) {
         this.variants = variants;
+        this.members  = new HashSet<>();
+        for (Element variant : variants)
+            this.members.add(this.getId(variant));
+        if (this.diagram != null)
+            this.diagram.updateVariants(this);
+        this.setDirty();
     }
     
     /**
@@ -261,9 +338,9 @@ public class Variability implements Exportable {
      * @return Element Icon in a Variability.
      */
     public String getIcon(Element element) {
-        if (this.getVariants().contains(element) && this.getConstraint().equalsIgnoreCase("inclusive"))
+        if (this.isVariant(element) && this.getConstraint().equalsIgnoreCase("inclusive"))
             return "icons/variability/inclusive.png";
-        if (this.getVariants().contains(element) && this.getConstraint().equalsIgnoreCase("exclusive"))
+        if (this.isVariant(element) && this.getConstraint().equalsIgnoreCase("exclusive"))
             return "icons/variability/exclusive.png";
         return element.getIcon();
     }
@@ -1,5 +1,6 @@
 package model.structural.diagram;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -552,29 +553,33 @@ public final class ClassDiagram extends Diagram {
     }
     
     /**
-     * Method responsible for returning the References to export.
-     * @return References to export.
+     * Method responsible for exporting the References.
+     * @param  appendable Appendable Output.
+     * @throws IOException Exception to write the Output.
      */
-    private String exportReferences() {
-        String  export  = "";
+    private void exportReferences(Appendable appendable) throws IOException {
         for (PackageUML current : this.getPackagesList()) {
             if (current.getParent() != null)
-                export += "    <reference package=\"" + current.getId() + "\" parent=\"" + current.getParent().getId() + "\"/>\n";
+                appendable.append("    <reference package=\"").append(current.getId()).append("\" parent=\"").append(current.getParent().getId()).append("\"/>\n");
         }
-        return  export;
     }
     
     @Override
-    public String export() {
-        String export  = "  <diagram id=\"" + this.id + "\" name=\"" + this.name + "\" type=\"" + this.type + "\">\n";
-               export += this.export((List<Element>) this.getList(this.packages));
-               export += this.export((List<Element>) this.getList(this.classes));
-               export += this.export((List<Element>) this.getList(this.interfaces));
-               export += this.exportAssociations();
-               export += this.exportReferences();
-               export += this.exportVariabilities();
-               export += "  </diagram>\n";
-        return export;
+    protected void exportHashes(Appendable appendable) throws IOException {
+        super.exportHashes(appendable);
+        this.exportReferences(appendable);
+    }
+    
+    @Override
+    public void export(Appendable appendable) throws IOException {
+        this.exportHeader(appendable);
+        this.export((List<Element>) this.getList(this.packages),   appendable);
+        this.export((List<Element>) this.getList(this.classes),    appendable);
+        this.export((List<Element>) this.getList(this.interfaces), appendable);
+        this.exportAssociations(appendable);
+        this.exportReferences(appendable);
+        this.exportVariabilities(appendable);
+        appendable.append("  </diagram>\n");
     }
     
     @Override
@@ -2,6 +2,7 @@ package model.structural.diagram;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import model.structural.base.association.Association;
 import model.structural.base.Diagram;
@@ -28,6 +29,8 @@ public final class FeatureDiagram extends Diagram {
     private HashMap<String, Variability> variability;
     private HashMap<String, Connection>  connections;
     private HashMap<String, Combination> combinations;
+    private HashMap<String, LinkedHashMap<String, Variability>> variationPoints;
+    private HashMap<String, String> points;
     
     /**
      * Default constructor method of Class.
@@ -50,11 +53,13 @@ public final class FeatureDiagram extends Diagram {
 
     @Override
     public void init() {
-        this.type         = "Feature";
-        this.features     = new HashMap<>();
-        this.variability  = new HashMap<>();
-        this.connections  = new HashMap<>();
-        this.combinations = new HashMap<>();
+        this.type            = "Feature";
+        this.features        = new HashMap<>();
+        this.variability     = new HashMap<>();
+        this.connections     = new HashMap<>();
+        this.combinations    = new HashMap<>();
+        this.variationPoints = new HashMap<>();
+        this.points          = new HashMap<>();
     }
 
     /**
@@ -96,6 +101,7 @@ public final class FeatureDiagram extends Diagram {
         variability.setId(this.nextId(variability));
         if (this.variability.get(variability.getId()) == null) {
             this.variability.put(variability.getId(), variability);
+            this.indexVariationPoint(variability);
             this.addElement(variability);
         }
     }
@@ -108,6 +114,47 @@ public final class FeatureDiagram extends Diagram {
         this.removeAssociations(variability);
         this.removeElement(variability);
         this.variability.remove(variability.getId());
+        this.unindexVariationPoint(variability);
+    }
+    
+    /**
+     * Method responsible for updating the Variation Point of a Variability in the Index.
+     * @param variability Variability.
+     */
+    public void updateVariationPoint(Variability variability) {
+        if (this.variability.get(variability.getId()) == variability) {
+            this.unindexVariationPoint(variability);
+            this.indexVariationPoint(variability);
+        }
+    }
+    
+    /**
+     * Method responsible for indexing a Variability by its Variation Point.
+     * @param variability Variability.
+     */
+    private void indexVariationPoint(Variability variability) {
+        String key = (variability.getVariationPoint() == null) ? "" : variability.getVariationPoint().getId();
+        LinkedHashMap<String, Variability> bucket = this.variationPoints.get(key);
+        if (bucket == null) {
+            bucket = new LinkedHashMap<>();
+            this.variationPoints.put(key, bucket);
+        }
+        bucket.put(variability.getId(), variability);
+        this.points.put(variability.getId(), key);
+    }
+    
+    /**
+     * Method responsible for removing a Variability from the Variation Point Index.
+     * @param variability Variability.
+     */
+    private void unindexVariationPoint(Variability variability) {
+        String key = this.points.remove(variability.getId());
+        LinkedHashMap<String, Variability> bucket = (key == null) ? null : this.variationPoints.get(key);
+        if (bucket == null)
+            return;
+        bucket.remove(variability.getId());
+        if (bucket.isEmpty())
+            this.variationPoints.remove(key);
     }
     
     /**
@@ -125,13 +172,8 @@ public final class FeatureDiagram extends Diagram {
      * @return Variation Points.
      */
     public List<Variability> getVariationPoints(Feature feature) {
-        List<Variability> list   = this.getVariability();
-        List<Variability> filter = new ArrayList<>();
-        for (int i = 0; i < list.size(); i++) {
-            if (list.get(i).getVariationPoint().equals(feature))
-                filter.add(list.get(i));
-        }
-        return filter;
+        LinkedHashMap<String, Variability> bucket = this.variationPoints.get(feature.getId());
+        return (bucket == null) ? new ArrayList<>() : new ArrayList<>(bucket.values());
     } 
     
     /**
@@ -1,12 +1,14 @@
 package model.structural.diagram;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import model.structural.base.Diagram;
 import model.structural.base.Element;
 import model.structural.base.Project;
+import model.structural.base.SortedView;
 import model.structural.base.association.Association;
 import model.structural.diagram.classes.base.ClassUML;
 import model.structural.diagram.classes.base.MethodUML;
@@ -29,6 +31,7 @@ public final class SequenceDiagram extends Diagram {
     private HashMap<String, LifelineUML> lifelines;
     private HashMap<String, InstanceUML> instances;
     private HashMap<String, Association> messages;
+    private SortedView<MessageUML> messagesView;
 
     /**
      * Default constructor method of Class.
@@ -55,6 +58,14 @@ public final class SequenceDiagram extends Diagram {
         this.lifelines = new HashMap<>();
         this.instances = new HashMap<>();
         this.messages  = new HashMap<>();
+        this.messagesView = new SortedView<>(this.getMessageComparator());
+    }
+    
+    @Override
+    public void clearViews() {
+        super.clearViews();
+        if (this.messagesView != null)
+            this.messagesView.clear();
     }
     
     /**
@@ -176,7 +187,7 @@ public final class SequenceDiagram extends Diagram {
      */
     public void updateLifelinesY(Integer y) {
         for (LifelineUML lifeline : this.getLifelinesList())
-            lifeline.getPosition().y = y;
+            lifeline.setPosition(lifeline.getX(), y);
     }
     
     /**
@@ -248,7 +259,7 @@ public final class SequenceDiagram extends Diagram {
      */
     public void updateInstancesY(Integer y) {
         for (InstanceUML instance : this.getInstancesList())
-            instance.getPosition().y = y;
+            instance.setPosition(instance.getX(), y);
     }
     
     /**
@@ -268,6 +279,7 @@ public final class SequenceDiagram extends Diagram {
         message.setSequence(this.nextSequence());
         if (this.messages.get(message.getId()) == null) {
             this.messages.put(message.getId(), message);
+            this.messagesView.clear();
             this.addAssociation(message);
             this.updateHeight(this.getMinHeigth());
             this.updateSequence();
@@ -315,6 +327,7 @@ public final class SequenceDiagram extends Diagram {
         super.removeAssociation(message);
         this.updateNextMessages(message);
         this.messages.remove(message.getId());
+        this.messagesView.clear();
         this.updateSequence();
     }
     
@@ -356,9 +369,7 @@ public final class SequenceDiagram extends Diagram {
      * @return Message List.
      */
     public List<MessageUML> getMessageList() {
-        ArrayList list = new ArrayList<>(this.messages.values());
-                  list.sort(this.getMessageComparator());
-        return    list;
+        return this.messagesView.getList((Collection) this.messages.values());
     }
     
     /**
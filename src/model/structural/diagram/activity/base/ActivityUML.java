@@ -6,6 +6,7 @@ import java.util.HashMap;
 import java.util.Map;
 import model.structural.base.Diagram;
 import model.structural.base.Element;
+import model.structural.base.StyleRegistry;
 
 /**
  * <p>Class of Model <b>ActivityUML</b>.</p>
@@ -49,14 +50,17 @@ public class ActivityUML extends Element {
     
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
-               style.put(mxConstants.STYLE_VERTICAL_LABEL_POSITION, mxConstants.ALIGN_MIDDLE);
-               style.put(mxConstants.STYLE_FONTSIZE, "15");
-               style.put(mxConstants.STYLE_EDITABLE, "1");
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
-               style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
-               style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
-        return style;
+        Map<String, Object> style = StyleRegistry.getStyle("styleActivityUML");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
+                            style.put(mxConstants.STYLE_VERTICAL_LABEL_POSITION, mxConstants.ALIGN_MIDDLE);
+                            style.put(mxConstants.STYLE_FONTSIZE, "15");
+                            style.put(mxConstants.STYLE_EDITABLE, "1");
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
+                            style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
+        return StyleRegistry.putStyle("styleActivityUML", style);
     }
 }
\ No newline at end of file
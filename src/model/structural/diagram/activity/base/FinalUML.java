@@ -6,6 +6,7 @@ import java.util.HashMap;
 import java.util.Map;
 import model.structural.base.Diagram;
 import model.structural.base.Element;
+import model.structural.base.StyleRegistry;
 
 /**
  * <p>Class of Model <b>FinalUML</b>.</p>
@@ -54,14 +55,17 @@ public class FinalUML extends Element {
     
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_DOUBLE_ELLIPSE);
-               style.put(mxConstants.STYLE_VERTICAL_LABEL_POSITION, mxConstants.ALIGN_BOTTOM);
-               style.put(mxConstants.STYLE_FONTSIZE, "15");
-               style.put(mxConstants.STYLE_EDITABLE, "0");
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
-               style.put(mxConstants.STYLE_FILLCOLOR,   "#000000");
-               style.put(mxConstants.STYLE_STROKECOLOR, "#FFFFFF");
-        return style;
+        Map<String, Object> style = StyleRegistry.getStyle("styleFinalUML");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_DOUBLE_ELLIPSE);
+                            style.put(mxConstants.STYLE_VERTICAL_LABEL_POSITION, mxConstants.ALIGN_BOTTOM);
+                            style.put(mxConstants.STYLE_FONTSIZE, "15");
+                            style.put(mxConstants.STYLE_EDITABLE, "0");
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+                            style.put(mxConstants.STYLE_FILLCOLOR,   "#000000");
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#FFFFFF");
+        return StyleRegistry.putStyle("styleFinalUML", style);
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.mxgraph.util.mxConstants;
 import java.util.HashMap;
 import java.util.Map;
 import model.structural.base.Element;
+import model.structural.base.StyleRegistry;
 import model.structural.base.association.Association;
 
 /**
@@ -69,6 +70,7 @@ public class FlowUML extends Association {
      */
     public void setGuard(String guard) {
         this.guard = guard.replaceAll("\\[", "").replaceAll("\\]", "").trim();
+        this.setDirty();
     }
 
     /**
@@ -95,6 +97,7 @@ public class FlowUML extends Association {
      */
     public void setAction(String action) {
         this.action = action.replace("\\/", "").trim();
+        this.setDirty();
     }
 
     /**
@@ -121,6 +124,7 @@ public class FlowUML extends Association {
      */
     public void setWeight(String weight) {
         this.weight = weight.replaceAll("\\{", "").replaceAll("\\}", "").trim();
+        this.setDirty();
     }
     
     @Override
@@ -137,17 +141,20 @@ public class FlowUML extends Association {
     
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_DASHED,   "0");
-               style.put(mxConstants.STYLE_MOVABLE,  "0");
-               style.put(mxConstants.STYLE_EDITABLE, "1");
-               style.put(mxConstants.STYLE_ENDSIZE,  "15");
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
-               style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
-               style.put(mxConstants.STYLE_SHAPE,      mxConstants.SHAPE_CONNECTOR);
-               style.put(mxConstants.STYLE_ENDARROW,   mxConstants.ARROW_OPEN);
-               style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
-        return style;
+        Map<String, Object> style = StyleRegistry.getStyle("styleFlowUML");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_DASHED,   "0");
+                            style.put(mxConstants.STYLE_MOVABLE,  "0");
+                            style.put(mxConstants.STYLE_EDITABLE, "1");
+                            style.put(mxConstants.STYLE_ENDSIZE,  "15");
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
+                            style.put(mxConstants.STYLE_SHAPE,      mxConstants.SHAPE_CONNECTOR);
+                            style.put(mxConstants.STYLE_ENDARROW,   mxConstants.ARROW_OPEN);
+                            style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
+        return StyleRegistry.putStyle("styleFlowUML", style);
     }
     
     @Override
@@ -18,6 +18,7 @@ import java.util.Set;
 import model.structural.base.Diagram;
 import model.structural.base.Element;
 import model.structural.base.Stereotype;
+import model.structural.base.StyleRegistry;
 import model.structural.base.association.Association;
 import model.structural.diagram.ClassDiagram;
 import model.structural.diagram.classes.base.AttributeUML;
@@ -42,6 +43,8 @@ public abstract class Entity extends Element implements Encodable {
     protected TypeUML typeUML;
     protected final LinkedHashMap attributes;
     protected final LinkedHashMap methods;
+    private HashMap<String, Set<MethodUML>> resolved;
+    private Integer version;
     
     /**
      * Default constructor method of Class.
@@ -189,6 +192,12 @@ public abstract class Entity extends Element implements Encodable {
     public void setName(String name) {
         super.setName(name);
         this.typeUML.setName(this.getName());
+        if ((this.getDiagram() != null) && (this.getDiagram().getProject() != null))
+            this.getDiagram().getProject().updateTypeUML(this.typeUML);
+        for (MethodUML method : this.getMethodsList()) {
+            if (method.isConstructor())
+                method.updateName();
+        }
         this.setMinWidth();
     }
 
@@ -248,6 +257,7 @@ public abstract class Entity extends Element implements Encodable {
      */
     public void setDescription(String description) {
         this.description = description;
+        this.setDirty();
     }
     
     /**
@@ -285,6 +295,7 @@ public abstract class Entity extends Element implements Encodable {
      */
     public void setPackageUML(PackageUML packageUML) {
         this.packageUML = packageUML;
+        this.setDirty();
     }
     
     /**
@@ -356,6 +367,7 @@ public abstract class Entity extends Element implements Encodable {
      */
     public void setTypeUML(TypeUML typeUML) {
         this.typeUML = typeUML;
+        this.setDirty();
     }
     
     /**
@@ -425,6 +437,7 @@ public abstract class Entity extends Element implements Encodable {
     public void addAttribute(AttributeUML attribute) {
         this.attributes.put(attribute.getId(), attribute);
 //        this.updateSize();
+        this.setDirty();
     }
     
     /**
@@ -433,6 +446,7 @@ public abstract class Entity extends Element implements Encodable {
      */
     public void removeAttribute(AttributeUML attribute) {
         this.attributes.remove(attribute.getId());
+        this.setDirty();
     }
 
     /**
@@ -443,6 +457,33 @@ public abstract class Entity extends Element implements Encodable {
         return this.methods;
     }
     
+    /**
+     * Method responsible for returning a Set of the Resolved Methods Table.
+     * The Table is cleared when the Diagram Version changes, since every Change of a Method, Generalization or Realization changes the Diagram.
+     * @param  kind Methods Kind.
+     * @return Resolved Methods Set, or null if not resolved.
+     */
+    protected Set<MethodUML> getResolved(String kind) {
+        if ((this.resolved == null) || (!this.diagram.getVersion().equals(this.version))) {
+            this.resolved = new HashMap<>();
+            this.version  = this.diagram.getVersion();
+        }
+        return this.resolved.get(kind);
+    }
+    
+    /**
+     * Method responsible for adding a Set to the Resolved Methods Table.
+     * @param  kind Methods Kind.
+     * @param  set Resolved Methods Set.
+     * @return Unmodifiable Resolved Methods Set.
+     */
+    protected Set<MethodUML> putResolved(String kind, Set<MethodUML> set) {
+        Set<MethodUML> resolved_ = Collections.unmodifiableSet(set);
+        this.getResolved(kind);
+        this.resolved.put(kind, resolved_);
+        return resolved_;
+    }
+    
     /**
      * Method responsible for returning the Set of All Methods of a Entity.
      * @return All Methods Set.
@@ -469,15 +510,21 @@ public abstract class Entity extends Element implements Encodable {
     
     /**
      * Method responsible for returning the Inherited Methods Set.
+     * The Supers are read from the cached Supers List of the Diagram instead of walking the Supers recursively.
      * @return Inherited Methods Set.
      */
     public Set<MethodUML> getInheritedMethods() {
+        Set<MethodUML> resolved_ = this.getResolved("inherited");
+        if (resolved_ != null)
+            return resolved_;
         Set    set = new HashSet<>();
-        if (this.getSuper() != null)
-            set.addAll(this.getSuper().getInheritedMethods());
+        for (Element element : this.diagram.getSupers(this)) {
+               set.addAll(((Entity) element).getVisibleMethods());
+               set.addAll(((Entity) element).getImplementsMethods());
+        }
                set.addAll(this.getVisibleMethods());
                set.addAll(this.getImplementsMethods());
-        return set;
+        return this.putResolved("inherited", set);
     }
     
     /**
@@ -491,12 +538,17 @@ public abstract class Entity extends Element implements Encodable {
      * @return Abstract Inherited Methods Set.
      */
     public Set<MethodUML> getAbstractInheritedMethods() {
+        Set<MethodUML> resolved_ = this.getResolved("abstractInherited");
+        if (resolved_ != null)
+            return resolved_;
         Set    set = new HashSet<>();
-        for (MethodUML method : this.getInheritedMethods()) {
-            if (this.isFirstConcrete() && method.isAbstract())
-               set.add(method);
+        if (this.isFirstConcrete()) {
+            for (MethodUML method : this.getInheritedMethods()) {
+                if (method.isAbstract())
+                   set.add(method);
+            }
         }
-        return set;
+        return this.putResolved("abstractInherited", set);
     }
     
     /**
@@ -589,6 +641,7 @@ public abstract class Entity extends Element implements Encodable {
     public void addMethod(MethodUML method) {
         this.methods.put(method.getId(), method);
 //        this.updateSize();
+        this.setDirty();
     }
     
     /**
@@ -597,6 +650,7 @@ public abstract class Entity extends Element implements Encodable {
      */
     public void removeMethod(MethodUML method) {
         this.methods.remove(method.getId());
+        this.setDirty();
     }
     
     /**
@@ -651,15 +705,18 @@ public abstract class Entity extends Element implements Encodable {
 
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
+        Map<String, Object> style = StyleRegistry.getStyle("styleEntity");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
 //               style.put(mxConstants.STYLE_FILLCOLOR,   "#9999FF");
 //               style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
-               style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
-               style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
-               style.put(mxConstants.STYLE_EDITABLE, "0");
-               style.put(mxConstants.STYLE_FOLDABLE, "0");
-        return style;
+                            style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
+                            style.put(mxConstants.STYLE_EDITABLE, "0");
+                            style.put(mxConstants.STYLE_FOLDABLE, "0");
+        return StyleRegistry.putStyle("styleEntity", style);
     }
     
     /**
@@ -667,20 +724,23 @@ public abstract class Entity extends Element implements Encodable {
      * @return Stereotype Style.
      */
     public Map getStereotypeStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+        Map<String, Object> style = StyleRegistry.getStyle("styleEntityStereotype");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
 //               style.put(mxConstants.STYLE_FILLCOLOR,   "#9999FF");
 //               style.put(mxConstants.STYLE_STROKECOLOR, "#9999FF");
-               style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
-               style.put(mxConstants.STYLE_STROKECOLOR, mxConstants.NONE);
-               style.put(mxConstants.STYLE_EDITABLE,  "0");
-               style.put(mxConstants.STYLE_RESIZABLE, "0");
-               style.put(mxConstants.STYLE_MOVABLE,   "0");
-               style.put(mxConstants.STYLE_FOLDABLE,  "0");
-               style.put(mxConstants.STYLE_FONTSIZE,  "15");
-               style.put(mxConstants.STYLE_FONTSTYLE, mxConstants.FONT_SHADOW);
-        return style;
+                            style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
+                            style.put(mxConstants.STYLE_STROKECOLOR, mxConstants.NONE);
+                            style.put(mxConstants.STYLE_EDITABLE,  "0");
+                            style.put(mxConstants.STYLE_RESIZABLE, "0");
+                            style.put(mxConstants.STYLE_MOVABLE,   "0");
+                            style.put(mxConstants.STYLE_FOLDABLE,  "0");
+                            style.put(mxConstants.STYLE_FONTSIZE,  "15");
+                            style.put(mxConstants.STYLE_FONTSTYLE, mxConstants.FONT_SHADOW);
+        return StyleRegistry.putStyle("styleEntityStereotype", style);
     }
     
     /**
@@ -688,20 +748,23 @@ public abstract class Entity extends Element implements Encodable {
      * @return Name Style.
      */
     public Map getNameStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+        Map<String, Object> style = StyleRegistry.getStyle("styleEntityName");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
 //               style.put(mxConstants.STYLE_FILLCOLOR,   "#9999FF");
 //               style.put(mxConstants.STYLE_STROKECOLOR, "#9999FF");
-               style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
-               style.put(mxConstants.STYLE_STROKECOLOR, mxConstants.NONE);
-               style.put(mxConstants.STYLE_EDITABLE,  "1");
-               style.put(mxConstants.STYLE_RESIZABLE, "0");
-               style.put(mxConstants.STYLE_MOVABLE,   "0");
-               style.put(mxConstants.STYLE_FOLDABLE,  "0");
-               style.put(mxConstants.STYLE_FONTSIZE,  "15");
-               style.put(mxConstants.STYLE_FONTSTYLE, mxConstants.FONT_BOLD);
-        return style;
+                            style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
+                            style.put(mxConstants.STYLE_STROKECOLOR, mxConstants.NONE);
+                            style.put(mxConstants.STYLE_EDITABLE,  "1");
+                            style.put(mxConstants.STYLE_RESIZABLE, "0");
+                            style.put(mxConstants.STYLE_MOVABLE,   "0");
+                            style.put(mxConstants.STYLE_FOLDABLE,  "0");
+                            style.put(mxConstants.STYLE_FONTSIZE,  "15");
+                            style.put(mxConstants.STYLE_FONTSTYLE, mxConstants.FONT_BOLD);
+        return StyleRegistry.putStyle("styleEntityName", style);
     }
     
     /**
@@ -709,14 +772,17 @@ public abstract class Entity extends Element implements Encodable {
      * @return Line Style.
      */
     public Map getLineStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_LINE);
-               style.put(mxConstants.STYLE_EDITABLE,  "0");
-               style.put(mxConstants.STYLE_RESIZABLE, "0");
-               style.put(mxConstants.STYLE_MOVABLE,   "0");
-               style.put(mxConstants.STYLE_FOLDABLE,  "0");
-               style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
-        return style;
+        Map<String, Object> style = StyleRegistry.getStyle("styleEntityLine");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_LINE);
+                            style.put(mxConstants.STYLE_EDITABLE,  "0");
+                            style.put(mxConstants.STYLE_RESIZABLE, "0");
+                            style.put(mxConstants.STYLE_MOVABLE,   "0");
+                            style.put(mxConstants.STYLE_FOLDABLE,  "0");
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
+        return StyleRegistry.putStyle("styleEntityLine", style);
     }
     
     /**
@@ -724,17 +790,20 @@ public abstract class Entity extends Element implements Encodable {
      * @return New Attribute Style.
      */
     public Map getNewAttributeStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_ELLIPSE);
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#FFFF1A");
-               style.put(mxConstants.STYLE_FILLCOLOR,   "#FFFF1A");
-               style.put(mxConstants.STYLE_STROKECOLOR, "#FFFF1A");
-               style.put(mxConstants.STYLE_EDITABLE, "0");
-               style.put(mxConstants.STYLE_RESIZABLE,"0");
-               style.put(mxConstants.STYLE_MOVABLE,  "0");
-               style.put(mxConstants.STYLE_FOLDABLE, "0");
-               style.put(mxConstants.STYLE_FONTSIZE, "0");
-        return style;
+        Map<String, Object> style = StyleRegistry.getStyle("styleEntityNewAttribute");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_ELLIPSE);
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#FFFF1A");
+                            style.put(mxConstants.STYLE_FILLCOLOR,   "#FFFF1A");
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#FFFF1A");
+                            style.put(mxConstants.STYLE_EDITABLE, "0");
+                            style.put(mxConstants.STYLE_RESIZABLE,"0");
+                            style.put(mxConstants.STYLE_MOVABLE,  "0");
+                            style.put(mxConstants.STYLE_FOLDABLE, "0");
+                            style.put(mxConstants.STYLE_FONTSIZE, "0");
+        return StyleRegistry.putStyle("styleEntityNewAttribute", style);
     }
     
     /**
@@ -742,17 +811,20 @@ public abstract class Entity extends Element implements Encodable {
      * @return New Method Style.
      */
     public Map getNewMethodStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#4AAD7D");
-               style.put(mxConstants.STYLE_FILLCOLOR,   "#4AAD7D");
-               style.put(mxConstants.STYLE_STROKECOLOR, "#4AAD7D");
-               style.put(mxConstants.STYLE_EDITABLE, "0");
-               style.put(mxConstants.STYLE_RESIZABLE,"0");
-               style.put(mxConstants.STYLE_MOVABLE,  "0");
-               style.put(mxConstants.STYLE_FOLDABLE, "0");
-               style.put(mxConstants.STYLE_FONTSIZE, "0");
-        return style;
+        Map<String, Object> style = StyleRegistry.getStyle("styleEntityNewMethod");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#4AAD7D");
+                            style.put(mxConstants.STYLE_FILLCOLOR,   "#4AAD7D");
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#4AAD7D");
+                            style.put(mxConstants.STYLE_EDITABLE, "0");
+                            style.put(mxConstants.STYLE_RESIZABLE,"0");
+                            style.put(mxConstants.STYLE_MOVABLE,  "0");
+                            style.put(mxConstants.STYLE_FOLDABLE, "0");
+                            style.put(mxConstants.STYLE_FONTSIZE, "0");
+        return StyleRegistry.putStyle("styleEntityNewMethod", style);
     }
     
     /**
@@ -764,6 +836,15 @@ public abstract class Entity extends Element implements Encodable {
         return  element != null ? (Entity) element : null;
     }
     
+    /**
+     * Method responsible for checking if the Entity is Subtype of a Super Entity.
+     * @param  super_ Super Entity.
+     * @return Entity is Subtype.
+     */
+    public boolean isSubtypeOf(Entity super_) {
+        return this.diagram.isSubtype(this, super_);
+    }
+    
     /**
      * Method responsible for returning the Package Code.
      * @return Package Code.
@@ -1050,11 +1131,14 @@ public abstract class Entity extends Element implements Encodable {
     
     @Override
     public String export() {
-        return   this.exportHeader()
-               + this.exportDescription()
-               + this.exportAttributes()
-               + this.exportMethods()
-               + this.exportFooter();
+        StringBuilder export = new StringBuilder(this.exportHeader());
+        export.append(this.exportDescription());
+        for (AttributeUML attribute : this.getAttributesList())
+            export.append(attribute.getFragment());
+        for (MethodUML method : this.getMethodsList())
+            export.append(method.getFragment());
+        export.append(this.exportFooter());
+        return export.toString();
     }
     
     /**
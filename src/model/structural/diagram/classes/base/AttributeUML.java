@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.Map;
 import model.structural.base.Diagram;
 import model.structural.base.Element;
+import model.structural.base.StyleRegistry;
 import model.structural.diagram.classes.Encodable;
 import model.structural.diagram.classes.Entity;
 
@@ -62,6 +63,7 @@ public class AttributeUML extends Element implements Encodable {
     public void setDefaultName() {
         super.setDefaultName();
         this.name = this.name.toLowerCase().trim();
+        this.updateName();
         this.entity.setMinWidth();
     }
     
@@ -69,9 +71,17 @@ public class AttributeUML extends Element implements Encodable {
     public void setName(String name) {
         super.setName(name);
         this.name = this.getName().replaceAll(" ", "");
+        this.updateName();
         this.entity.setMinWidth();
     }
     
+    @Override
+    public void setDirty() {
+        super.setDirty();
+        if (this.entity != null)
+            this.entity.setDirty();
+    }
+    
     /**
      * Method responsible for returning Entity.
      * @return Entity.
@@ -102,6 +112,7 @@ public class AttributeUML extends Element implements Encodable {
      */
     public void setTypeUML(TypeUML typeUML) {
         this.typeUML = typeUML;
+        this.setDirty();
     }
     
     /**
@@ -112,6 +123,7 @@ public class AttributeUML extends Element implements Encodable {
     public void changeTypeUML(TypeUML oldType, TypeUML newType) {
         if (this.typeUML.equals(oldType))
             this.typeUML = newType;
+        this.setDirty();
     }
 
     @Override
@@ -125,6 +137,7 @@ public class AttributeUML extends Element implements Encodable {
      */
     public void setVisibility(String visibility) {
         this.visibility = visibility;
+        this.setDirty();
     }
 
     @Override
@@ -138,6 +151,7 @@ public class AttributeUML extends Element implements Encodable {
      */
     public void setStatic(boolean static_) {
         this.static_ = static_;
+        this.setDirty();
     }
     
     @Override
@@ -151,6 +165,7 @@ public class AttributeUML extends Element implements Encodable {
      */
     public void setFinal(boolean final_) {
         this.final_ = final_;
+        this.setDirty();
     }
     
     @Override
@@ -247,21 +262,25 @@ public class AttributeUML extends Element implements Encodable {
     
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
-               style.put(mxConstants.STYLE_ALIGN, mxConstants.ALIGN_LEFT);
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+        String key   = "styleAttributeUML(" + this.static_ + ")";
+        Map<String, Object> style = StyleRegistry.getStyle(key);
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
+                            style.put(mxConstants.STYLE_ALIGN, mxConstants.ALIGN_LEFT);
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
 //               style.put(mxConstants.STYLE_FILLCOLOR,   "#9999FF");
-               style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
+                            style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
 //               style.put(mxConstants.STYLE_STROKECOLOR, "#9999FF");
-               style.put(mxConstants.STYLE_STROKECOLOR,mxConstants.NONE);
-               style.put(mxConstants.STYLE_FONTSTYLE, this.static_ ? 1 : mxConstants.FONT_UNDERLINE);
-               style.put(mxConstants.STYLE_EDITABLE,  "1");
-               style.put(mxConstants.STYLE_FONTSIZE,  "12");
-               style.put(mxConstants.STYLE_RESIZABLE, "0");
-               style.put(mxConstants.STYLE_MOVABLE,   "0");
-               style.put(mxConstants.STYLE_FOLDABLE,  "0");
-        return style;
+                            style.put(mxConstants.STYLE_STROKECOLOR,mxConstants.NONE);
+                            style.put(mxConstants.STYLE_FONTSTYLE, this.static_ ? 1 : mxConstants.FONT_UNDERLINE);
+                            style.put(mxConstants.STYLE_EDITABLE,  "1");
+                            style.put(mxConstants.STYLE_FONTSIZE,  "12");
+                            style.put(mxConstants.STYLE_RESIZABLE, "0");
+                            style.put(mxConstants.STYLE_MOVABLE,   "0");
+                            style.put(mxConstants.STYLE_FOLDABLE,  "0");
+        return StyleRegistry.putStyle(key, style);
     }
     
     /**
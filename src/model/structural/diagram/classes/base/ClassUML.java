@@ -3,10 +3,13 @@ package model.structural.diagram.classes.base;
 import com.mxgraph.util.mxConstants;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import model.structural.base.Diagram;
+import model.structural.base.StyleRegistry;
 import model.structural.base.association.Association;
 import model.structural.diagram.ClassDiagram;
 import model.structural.diagram.classes.Entity;
@@ -61,6 +64,7 @@ public class ClassUML extends Entity {
     public void setAbstract(boolean abstract_) {
         this.abstract_  = abstract_;
         this.final_     = this.abstract_ ? false : this.final_;
+        this.setDirty();
     }
 
     @Override
@@ -75,6 +79,7 @@ public class ClassUML extends Entity {
     public void setFinal(boolean final_) {
         this.final_    = final_;
         this.abstract_ = this.final_ ? false : this.abstract_;
+        this.setDirty();
     }
     
     @Override
@@ -100,9 +105,13 @@ public class ClassUML extends Entity {
     
     @Override
     public Map getNameStyle() {
-        Map    style = super.getNameStyle();
-               style.put(mxConstants.STYLE_FONTSTYLE, this.abstract_ ? 3 : 1);
-        return style;
+        String key   = "styleClassUMLName(" + this.abstract_ + ")";
+        Map<String, Object> style = StyleRegistry.getStyle(key);
+        if (style != null)
+            return style;
+                            style = new HashMap<>(super.getNameStyle());
+                            style.put(mxConstants.STYLE_FONTSTYLE, this.abstract_ ? 3 : 1);
+        return StyleRegistry.putStyle(key, style);
     }
     
     @Override
@@ -159,41 +168,55 @@ public class ClassUML extends Entity {
     
     @Override
     public Set<MethodUML> getImplementsMethods() {
+        Set<MethodUML> resolved = this.getResolved("implements");
+        if (resolved != null)
+            return resolved;
         Set    set = new HashSet();
         for (InterfaceUML  interfaceUML_ : this.getRealizations())
                set.addAll(interfaceUML_.getAllMethods());
-        return set;
+        return this.putResolved("implements", set);
     }
     
     @Override
     public Set<MethodUML> getAllMethods() {
+        Set<MethodUML> resolved = this.getResolved("all");
+        if (resolved != null)
+            return resolved;
         Set    set = new HashSet();
                set.addAll(this.getMethodsList());
                set.addAll(this.getInheritedMethods());
                set.addAll(this.getImplementsMethods());
-        return set;
+        return this.putResolved("all", set);
     }
     
     @Override
     public Set<MethodUML> getExportableMethods() {
+        Set<MethodUML> resolved = this.getResolved("exportable");
+        if (resolved != null)
+            return resolved;
         Set    set = new HashSet();
                set.addAll(this.getMethodsList());
                set.addAll(this.getAbstractInheritedMethods());
                set.addAll(this.getImplementsMethods());
-        return set;
+        return this.putResolved("exportable", set);
     }
     
     /**
      * Method responsible for returning the Abstract Methods.
+     * The Abstract Methods are resolved once with the All Methods Set until the Diagram changes.
      * @return Abstract Methods.
      */
     public List<MethodUML> getAbstractMethods() {
-        List   list = new ArrayList<>();
-        for (MethodUML method : this.getAllMethods()) {
-            if (method.isAbstract())
-                list.add(method);
+        Set<MethodUML> resolved = this.getResolved("abstract");
+        if (resolved == null) {
+            Set    set = new LinkedHashSet<>();
+            for (MethodUML method : this.getAllMethods()) {
+                if (method.isAbstract())
+                    set.add(method);
+            }
+            resolved = this.putResolved("abstract", set);
         }
-        return list;
+        return new ArrayList<>(resolved);
     }
     
     @Override
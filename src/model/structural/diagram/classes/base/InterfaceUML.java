@@ -44,10 +44,13 @@ public class InterfaceUML extends Entity {
     
     @Override
     public Set<MethodUML> getAllMethods() {
+        Set<MethodUML> resolved = this.getResolved("all");
+        if (resolved != null)
+            return resolved;
         Set    set = new HashSet();
                set.addAll(this.getMethodsList());
                set.addAll(this.getInheritedMethods());
-        return set;
+        return this.putResolved("all", set);
     }
     
     @Override
@@ -9,6 +9,7 @@ import java.util.Objects;
 import java.util.Set;
 import model.structural.base.Diagram;
 import model.structural.base.Element;
+import model.structural.base.StyleRegistry;
 import model.structural.diagram.classes.Encodable;
 import model.structural.diagram.classes.Entity;
 
@@ -76,6 +77,7 @@ public class MethodUML extends Element implements Encodable {
     public void setDefaultName() {
         super.setDefaultName();
         this.name = this.name.toLowerCase().trim();
+        this.updateName();
         this.entity.setMinWidth();
     }
     
@@ -89,6 +91,7 @@ public class MethodUML extends Element implements Encodable {
         if (!this.constructor) {
             super.setName(name);
             this.name = this.name.trim();
+            this.updateName();
             this.entity.setMinWidth();
         }
     }
@@ -143,6 +146,14 @@ public class MethodUML extends Element implements Encodable {
     public void changeTypeUML(TypeUML oldType, TypeUML newType) {
         this.changeReturn(oldType, newType);
         this.changeParameterTypes(oldType, newType);
+        this.setDirty();
+    }
+    
+    @Override
+    public void setDirty() {
+        super.setDirty();
+        if (this.entity != null)
+            this.entity.setDirty();
     }
     
     /**
@@ -175,6 +186,7 @@ public class MethodUML extends Element implements Encodable {
      */
     public void setReturn(TypeUML return_) {
         this.return_ = return_;
+        this.setDirty();
     }
     
     /**
@@ -207,6 +219,7 @@ public class MethodUML extends Element implements Encodable {
      */
     public void setVisibility(String visibility) {
         this.visibility = visibility;
+        this.setDirty();
     }
     
     /**
@@ -223,6 +236,7 @@ public class MethodUML extends Element implements Encodable {
      */
     public void setConstructor(boolean constructor) {
         this.constructor = constructor;
+        this.setDirty();
     }
     
     @Override
@@ -236,6 +250,7 @@ public class MethodUML extends Element implements Encodable {
      */
     public void setStatic(boolean static_) {
         this.static_ = static_;
+        this.setDirty();
     }
     
     @Override
@@ -249,6 +264,7 @@ public class MethodUML extends Element implements Encodable {
      */
     public void setFinal(boolean final_) {
         this.final_ = final_;
+        this.setDirty();
     }
 
     @Override
@@ -264,6 +280,7 @@ public class MethodUML extends Element implements Encodable {
         this.abstract_  = abstract_;
         this.updateVisibility();
         this.updateAbstractClass();
+        this.setDirty();
     }
     
     /**
@@ -297,6 +314,8 @@ public class MethodUML extends Element implements Encodable {
     public void addParameter(ParameterUML parameter) {
         if (this.parameters.contains(parameter) == false)
             this.parameters.add(parameter);
+        parameter.setMethod(this);
+        this.setDirty();
     }
     
     /**
@@ -305,6 +324,9 @@ public class MethodUML extends Element implements Encodable {
      */
     public void setParameters(List<ParameterUML> parameters) {
         this.parameters = parameters;
+        for (ParameterUML parameter : this.parameters)
+            parameter.setMethod(this);
+        this.setDirty();
     }
     
     /**
@@ -526,19 +548,23 @@ public class MethodUML extends Element implements Encodable {
     
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
-               style.put(mxConstants.STYLE_ALIGN, mxConstants.ALIGN_LEFT);
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
-               style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
-               style.put(mxConstants.STYLE_STROKECOLOR, mxConstants.NONE);
-               style.put(mxConstants.STYLE_FONTSTYLE, this.getFontCode());
-               style.put(mxConstants.STYLE_EDITABLE,  "1");
-               style.put(mxConstants.STYLE_FONTSIZE,  "12");
-               style.put(mxConstants.STYLE_RESIZABLE, "0");
-               style.put(mxConstants.STYLE_MOVABLE,   "0");
-               style.put(mxConstants.STYLE_FOLDABLE,  "0");
-        return style;
+        String key   = "styleMethodUML(" + this.getFontCode() + ")";
+        Map<String, Object> style = StyleRegistry.getStyle(key);
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
+                            style.put(mxConstants.STYLE_ALIGN, mxConstants.ALIGN_LEFT);
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+                            style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
+                            style.put(mxConstants.STYLE_STROKECOLOR, mxConstants.NONE);
+                            style.put(mxConstants.STYLE_FONTSTYLE, this.getFontCode());
+                            style.put(mxConstants.STYLE_EDITABLE,  "1");
+                            style.put(mxConstants.STYLE_FONTSIZE,  "12");
+                            style.put(mxConstants.STYLE_RESIZABLE, "0");
+                            style.put(mxConstants.STYLE_MOVABLE,   "0");
+                            style.put(mxConstants.STYLE_FOLDABLE,  "0");
+        return StyleRegistry.putStyle(key, style);
     }
     
     /**
@@ -9,6 +9,7 @@ import java.util.Map;
 import model.structural.base.Diagram;
 import model.structural.base.Element;
 import model.structural.base.Stereotype;
+import model.structural.base.StyleRegistry;
 import model.structural.diagram.ClassDiagram;
 import model.structural.diagram.classes.Entity;
 
@@ -60,6 +61,7 @@ public class PackageUML extends Element {
     public void setDefaultName() {
         super.setDefaultName();
         this.name = this.name.toLowerCase();
+        this.updateName();
     }
     
     /**
@@ -299,6 +301,7 @@ public class PackageUML extends Element {
      */
     public void setParent(PackageUML parent) {
         this.parent = parent;
+        this.setDirty();
     }
     
     /**
@@ -466,14 +469,17 @@ public class PackageUML extends Element {
     
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_EDITABLE, "0");
-               style.put(mxConstants.STYLE_FOLDABLE, "0");
-               style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
-               style.put(mxConstants.STYLE_STROKECOLOR, mxConstants.NONE);
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
-               style.put(mxConstants.STYLE_VERTICAL_LABEL_POSITION, mxConstants.ALIGN_CENTER);
-        return style;
+        Map<String, Object> style = StyleRegistry.getStyle("stylePackageUML");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_EDITABLE, "0");
+                            style.put(mxConstants.STYLE_FOLDABLE, "0");
+                            style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
+                            style.put(mxConstants.STYLE_STROKECOLOR, mxConstants.NONE);
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
+                            style.put(mxConstants.STYLE_VERTICAL_LABEL_POSITION, mxConstants.ALIGN_CENTER);
+        return StyleRegistry.putStyle("stylePackageUML", style);
     }
     
     /**
@@ -481,16 +487,19 @@ public class PackageUML extends Element {
      * @return Package Style.
      */
     public Map getPackageStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_MOVABLE,   "0");
-               style.put(mxConstants.STYLE_FOLDABLE,  "0");
-               style.put(mxConstants.STYLE_EDITABLE,  "0");
-               style.put(mxConstants.STYLE_RESIZABLE, "0");
-               style.put(mxConstants.STYLE_DASH_PATTERN, "0");
-               style.put(mxConstants.STYLE_FILLCOLOR,    mxConstants.NONE);
-               style.put(mxConstants.STYLE_STROKECOLOR,  "#000000");
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
-        return style;
+        Map<String, Object> style = StyleRegistry.getStyle("stylePackageUMLPackage");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_MOVABLE,   "0");
+                            style.put(mxConstants.STYLE_FOLDABLE,  "0");
+                            style.put(mxConstants.STYLE_EDITABLE,  "0");
+                            style.put(mxConstants.STYLE_RESIZABLE, "0");
+                            style.put(mxConstants.STYLE_DASH_PATTERN, "0");
+                            style.put(mxConstants.STYLE_FILLCOLOR,    mxConstants.NONE);
+                            style.put(mxConstants.STYLE_STROKECOLOR,  "#000000");
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
+        return StyleRegistry.putStyle("stylePackageUMLPackage", style);
     }
     
     /**
@@ -498,19 +507,22 @@ public class PackageUML extends Element {
      * @return Name Style.
      */
     public Map getNameStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_MOVABLE,   "0");
-               style.put(mxConstants.STYLE_EDITABLE,  "1");
-               style.put(mxConstants.STYLE_FOLDABLE,  "0");
-               style.put(mxConstants.STYLE_FONTSIZE,  "15");
-               style.put(mxConstants.STYLE_RESIZABLE, "0");
-               style.put(mxConstants.STYLE_FONTCOLOR, "#000000");
-               style.put(mxConstants.STYLE_DASH_PATTERN, "0");
-               style.put(mxConstants.STYLE_FILLCOLOR,    mxConstants.NONE);
-               style.put(mxConstants.STYLE_STROKECOLOR,  mxConstants.NONE);
-               style.put(mxConstants.STYLE_SHAPE,     mxConstants.SHAPE_RECTANGLE);
-               style.put(mxConstants.STYLE_FONTSTYLE, mxConstants.FONT_BOLD);
-        return style;
+        Map<String, Object> style = StyleRegistry.getStyle("stylePackageUMLName");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_MOVABLE,   "0");
+                            style.put(mxConstants.STYLE_EDITABLE,  "1");
+                            style.put(mxConstants.STYLE_FOLDABLE,  "0");
+                            style.put(mxConstants.STYLE_FONTSIZE,  "15");
+                            style.put(mxConstants.STYLE_RESIZABLE, "0");
+                            style.put(mxConstants.STYLE_FONTCOLOR, "#000000");
+                            style.put(mxConstants.STYLE_DASH_PATTERN, "0");
+                            style.put(mxConstants.STYLE_FILLCOLOR,    mxConstants.NONE);
+                            style.put(mxConstants.STYLE_STROKECOLOR,  mxConstants.NONE);
+                            style.put(mxConstants.STYLE_SHAPE,     mxConstants.SHAPE_RECTANGLE);
+                            style.put(mxConstants.STYLE_FONTSTYLE, mxConstants.FONT_BOLD);
+        return StyleRegistry.putStyle("stylePackageUMLName", style);
     }
     
     /**
@@ -14,8 +14,9 @@ import org.w3c.dom.Element;
  * @see    model.structural.diagram.classes.base.TypeUML
  */
 public class ParameterUML implements Exportable, Encodable {
-    private TypeUML type;
-    private String  name;
+    private TypeUML   type;
+    private String    name;
+    private MethodUML method;
     
     /**
      * Default constructor method of Class.
@@ -76,6 +77,7 @@ public class ParameterUML implements Exportable, Encodable {
     public void changeTypeUML(TypeUML oldType, TypeUML newType) {
         if (this.type.equals(oldType))
             this.type = newType;
+        this.setDirty();
     }
     
     /**
@@ -84,6 +86,7 @@ public class ParameterUML implements Exportable, Encodable {
      */
     public void setType(TypeUML type) {
         this.type = type;
+        this.setDirty();
     }
 
     /**
@@ -100,6 +103,23 @@ public class ParameterUML implements Exportable, Encodable {
      */
     public void setName(String name) {
         this.name = name;
+        this.setDirty();
+    }
+    
+    /**
+     * Method responsible for defining Parameter Method UML.
+     * @param method Parameter Method UML.
+     */
+    public void setMethod(MethodUML method) {
+        this.method = method;
+    }
+    
+    /**
+     * Method responsible for marking the Parameter Method UML as changed.
+     */
+    private void setDirty() {
+        if (this.method != null)
+            this.method.setDirty();
     }
     
     /**
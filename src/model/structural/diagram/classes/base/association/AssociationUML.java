@@ -4,6 +4,7 @@ import com.mxgraph.util.mxConstants;
 import java.awt.Point;
 import java.util.HashMap;
 import java.util.Map;
+import model.structural.base.StyleRegistry;
 import model.structural.base.association.Association;
 import model.structural.diagram.classes.Entity;
 import org.w3c.dom.Element;
@@ -105,6 +106,7 @@ public class AssociationUML extends Association {
      */
     public void setSource(Entity source) {
         this.source = source;
+        this.setDirty();
     }
 
     @Override
@@ -118,6 +120,7 @@ public class AssociationUML extends Association {
      */
     public void setTarget(Entity target) {
         this.target = target;
+        this.setDirty();
     }
 
     /**
@@ -134,6 +137,7 @@ public class AssociationUML extends Association {
      */
     public void setName(String name) {
         this.name = name;
+        this.setDirty();
     }
     
     /**
@@ -150,6 +154,7 @@ public class AssociationUML extends Association {
      */
     public void setCategory(String category) {
         this.category = category;
+        this.setDirty();
     }
 
     /**
@@ -166,6 +171,7 @@ public class AssociationUML extends Association {
      */
     public void setDirection(boolean direction) {
         this.direction = direction;
+        this.setDirty();
     }
 
     /**
@@ -194,6 +200,7 @@ public class AssociationUML extends Association {
      */
     public void setSourceVisibility(String sourceVisibility) {
         this.sourceVisibility = sourceVisibility;
+        this.setDirty();
     }
     
     /**
@@ -218,6 +225,7 @@ public class AssociationUML extends Association {
      */
     public void setSourceName(String sourceName) {
         this.sourceName = sourceName;
+        this.setDirty();
     }
 
     /**
@@ -234,6 +242,7 @@ public class AssociationUML extends Association {
      */
     public void setSourceMin(Integer sourceMin) {
         this.sourceMin = sourceMin;
+        this.setDirty();
     }
     
     /**
@@ -243,6 +252,7 @@ public class AssociationUML extends Association {
     public void setSourceMin(Element element) {
         String value   = element.getAttribute("sourceMin").trim();
         this.sourceMin = (value.equals("*")) ? 0 : Integer.parseInt(value);
+        this.setDirty();
     }
 
     /**
@@ -259,6 +269,7 @@ public class AssociationUML extends Association {
      */
     public void setSourceMax(Integer sourceMax) {
         this.sourceMax = sourceMax;
+        this.setDirty();
     }
     
     /**
@@ -268,6 +279,7 @@ public class AssociationUML extends Association {
     public void setSourceMax(Element element) {
         String value   = element.getAttribute("sourceMax").trim();
         this.sourceMax = (value.equals("*")) ? Integer.MAX_VALUE : Integer.parseInt(value);
+        this.setDirty();
     }
     
     /**
@@ -331,6 +343,7 @@ public class AssociationUML extends Association {
      */
     public void setSourcePosition(Integer x, Integer y) {
         this.sourcePos = new Point(x, y);
+        this.setDirty();
     }
     
     /**
@@ -339,6 +352,7 @@ public class AssociationUML extends Association {
      */
     public void setSourcePosition(Point sourcePosition) {
         this.sourcePos = sourcePosition;
+        this.setDirty();
     }
 
     /**
@@ -350,6 +364,7 @@ public class AssociationUML extends Association {
         this.sourceMin        = 1;
         this.sourceMax        = 1;
         this.sourcePos        = new Point(this.source.getXCenter(), this.source.getYCenter());
+        this.setDirty();
     }
     
     /**
@@ -418,6 +433,7 @@ public class AssociationUML extends Association {
      */
     public void setTargetVisibility(String targetVisibility) {
         this.targetVisibility = targetVisibility;
+        this.setDirty();
     }
     
     /**
@@ -442,6 +458,7 @@ public class AssociationUML extends Association {
      */
     public void setTargetName(String targetName) {
         this.targetName = targetName;
+        this.setDirty();
     }
 
     /**
@@ -458,6 +475,7 @@ public class AssociationUML extends Association {
      */
     public void setTargetMin(Integer targetMin) {
         this.targetMin = targetMin;
+        this.setDirty();
     }
     
     /**
@@ -467,6 +485,7 @@ public class AssociationUML extends Association {
     public void setTargetMin(Element element) {
         String value   = element.getAttribute("targetMin").trim();
         this.targetMin = (value.equals("*")) ? 0 : Integer.parseInt(value);
+        this.setDirty();
     }
 
     /**
@@ -483,6 +502,7 @@ public class AssociationUML extends Association {
      */
     public void setTargetMax(Integer targetMax) {
         this.targetMax = targetMax;
+        this.setDirty();
     }
     
     /**
@@ -492,6 +512,7 @@ public class AssociationUML extends Association {
     public void setTargetMax(Element element) {
         String value   = element.getAttribute("targetMax").trim();
         this.targetMax = (value.equals("*")) ? Integer.MAX_VALUE : Integer.parseInt(value);
+        this.setDirty();
     }
     
     /**
@@ -555,6 +576,7 @@ public class AssociationUML extends Association {
      */
     public void setTargetPosition(Integer x, Integer y) {
         this.targetPos = new Point(x, y);
+        this.setDirty();
     }
     
     /**
@@ -563,6 +585,7 @@ public class AssociationUML extends Association {
      */
     public void setTargetPosition(Point targetPosition) {
         this.targetPos = targetPosition;
+        this.setDirty();
     }
     
     /**
@@ -574,6 +597,7 @@ public class AssociationUML extends Association {
         this.targetMin        = 1;
         this.targetMax        = 1;
         this.targetPos        = new Point(this.target.getXCenter(), this.target.getYCenter());
+        this.setDirty();
     }
     
     /**
@@ -638,6 +662,7 @@ public class AssociationUML extends Association {
      */
     public void dx(Point position, Integer distance) {
         position.x = (position.x + distance < 0) ? 0 : position.x + distance;
+        this.setDirty();
     }
     
     /**
@@ -647,6 +672,7 @@ public class AssociationUML extends Association {
      */
     public void dy(Point position, Integer distance) {
         position.y = (position.y + distance < 0) ? 0 : position.y + distance;
+        this.setDirty();
     }
     
     /**
@@ -686,18 +712,22 @@ public class AssociationUML extends Association {
      * @return Cardinality Style Map.
      */
     public Map getCardinalityStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_MOVABLE,   "1");
-               style.put(mxConstants.STYLE_EDITABLE,  "1");
-               style.put(mxConstants.STYLE_FOLDABLE,  "0");
-               style.put(mxConstants.STYLE_FONTSIZE,  "10");
-               style.put(mxConstants.STYLE_RESIZABLE, "0");
-               style.put(mxConstants.STYLE_FONTCOLOR, "#000000");
-               style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
-               style.put(mxConstants.STYLE_STROKECOLOR, mxConstants.NONE);
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
-               style.put(mxConstants.STYLE_FONTSTYLE, mxConstants.FONT_SHADOW);
-        return style;
+        String key   = this.getCardinalityLabel();
+        Map<String, Object> style = StyleRegistry.getStyle(key);
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_MOVABLE,   "1");
+                            style.put(mxConstants.STYLE_EDITABLE,  "1");
+                            style.put(mxConstants.STYLE_FOLDABLE,  "0");
+                            style.put(mxConstants.STYLE_FONTSIZE,  "10");
+                            style.put(mxConstants.STYLE_RESIZABLE, "0");
+                            style.put(mxConstants.STYLE_FONTCOLOR, "#000000");
+                            style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
+                            style.put(mxConstants.STYLE_STROKECOLOR, mxConstants.NONE);
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
+                            style.put(mxConstants.STYLE_FONTSTYLE, mxConstants.FONT_SHADOW);
+        return StyleRegistry.putStyle(key, style);
     }
     
     @Override
@@ -712,19 +742,23 @@ public class AssociationUML extends Association {
     
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_DASHED,    "0");
-               style.put(mxConstants.STYLE_STARTSIZE, "15");
-               style.put(mxConstants.STYLE_ENDSIZE,   "15");
-               style.put(mxConstants.STYLE_EDITABLE,  "0");
-               style.put(mxConstants.STYLE_MOVABLE,   "0");
-               style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
-               style.put(mxConstants.STYLE_ENDARROW,    this.getEndArrow());
-               style.put(mxConstants.STYLE_STARTARROW,  this.getStartArrow());
-               style.put(mxConstants.STYLE_STARTFILL,   this.getStartFill());
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_CONNECTOR);
-        return style;
+        String key   = "styleAssociationUML(" + this.getEndArrow() + ", " + this.getStartArrow() + ", " + this.getStartFill() + ")";
+        Map<String, Object> style = StyleRegistry.getStyle(key);
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_DASHED,    "0");
+                            style.put(mxConstants.STYLE_STARTSIZE, "15");
+                            style.put(mxConstants.STYLE_ENDSIZE,   "15");
+                            style.put(mxConstants.STYLE_EDITABLE,  "0");
+                            style.put(mxConstants.STYLE_MOVABLE,   "0");
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+                            style.put(mxConstants.STYLE_ENDARROW,    this.getEndArrow());
+                            style.put(mxConstants.STYLE_STARTARROW,  this.getStartArrow());
+                            style.put(mxConstants.STYLE_STARTFILL,   this.getStartFill());
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_CONNECTOR);
+        return StyleRegistry.putStyle(key, style);
     }
     
     /**
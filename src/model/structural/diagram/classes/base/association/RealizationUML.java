@@ -3,6 +3,7 @@ package model.structural.diagram.classes.base.association;
 import com.mxgraph.util.mxConstants;
 import java.util.HashMap;
 import java.util.Map;
+import model.structural.base.StyleRegistry;
 import model.structural.base.association.Association;
 import model.structural.diagram.classes.base.ClassUML;
 import model.structural.diagram.classes.base.InterfaceUML;
@@ -50,6 +51,7 @@ public class RealizationUML extends Association {
      */
     public void setSource(ClassUML source) {
         this.source = source;
+        this.setDirty();
     }
 
     @Override
@@ -63,6 +65,7 @@ public class RealizationUML extends Association {
      */
     public void setTarget(InterfaceUML target) {
         this.target = target;
+        this.setDirty();
     }
     
     @Override
@@ -77,16 +80,19 @@ public class RealizationUML extends Association {
     
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_DASHED,   "1");
-               style.put(mxConstants.STYLE_ENDSIZE,  "10");
-               style.put(mxConstants.STYLE_EDITABLE, "0");
-               style.put(mxConstants.STYLE_ENDFILL,  "0");
-               style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
-               style.put(mxConstants.STYLE_ENDARROW,   mxConstants.ARROW_BLOCK);
-               style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
-        return style;
+        Map<String, Object> style = StyleRegistry.getStyle("styleRealizationUML");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_DASHED,   "1");
+                            style.put(mxConstants.STYLE_ENDSIZE,  "10");
+                            style.put(mxConstants.STYLE_EDITABLE, "0");
+                            style.put(mxConstants.STYLE_ENDFILL,  "0");
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+                            style.put(mxConstants.STYLE_ENDARROW,   mxConstants.ARROW_BLOCK);
+                            style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
+        return StyleRegistry.putStyle("styleRealizationUML", style);
     }
     
     @Override
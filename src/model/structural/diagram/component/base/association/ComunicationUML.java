@@ -3,6 +3,7 @@ package model.structural.diagram.component.base.association;
 import com.mxgraph.util.mxConstants;
 import java.util.HashMap;
 import java.util.Map;
+import model.structural.base.StyleRegistry;
 import model.structural.base.association.Association;
 import model.structural.diagram.component.base.ComponentUML;
 import model.structural.diagram.component.base.InterfaceUML;
@@ -65,6 +66,7 @@ public class ComunicationUML extends Association {
      */
     public void setSource(ComponentUML component) {
         this.source = component;
+        this.setDirty();
     }
 
     @Override
@@ -78,6 +80,7 @@ public class ComunicationUML extends Association {
      */
     public void setTarget(InterfaceUML target) {
         this.target = target;
+        this.setDirty();
     }
     
     /**
@@ -94,6 +97,7 @@ public class ComunicationUML extends Association {
      */
     public void setCategory(String category) {
         this.category = category;
+        this.setDirty();
     }
     
     @Override
@@ -125,16 +129,20 @@ public class ComunicationUML extends Association {
     
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_DASHED,   this.getDashed());
-               style.put(mxConstants.STYLE_MOVABLE,  "0");
-               style.put(mxConstants.STYLE_EDITABLE, "0");
-               style.put(mxConstants.STYLE_ENDSIZE,  "15");
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
-               style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
-               style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
-               style.put(mxConstants.STYLE_ENDARROW,   this.getEndArrow());
-        return style;
+        String key   = "styleComunicationUML(" + this.getDashed() + ", " + this.getEndArrow() + ")";
+        Map<String, Object> style = StyleRegistry.getStyle(key);
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_DASHED,   this.getDashed());
+                            style.put(mxConstants.STYLE_MOVABLE,  "0");
+                            style.put(mxConstants.STYLE_EDITABLE, "0");
+                            style.put(mxConstants.STYLE_ENDSIZE,  "15");
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
+                            style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
+                            style.put(mxConstants.STYLE_ENDARROW,   this.getEndArrow());
+        return StyleRegistry.putStyle(key, style);
     }
     
     @Override
@@ -6,6 +6,7 @@ import java.util.HashMap;
 import java.util.Map;
 import model.structural.base.Diagram;
 import model.structural.base.Element;
+import model.structural.base.StyleRegistry;
 
 /**
  * <p>Class of Model <b>Feature</b>.</p>
@@ -85,6 +86,7 @@ public class Feature extends Element {
      */
     public void setAbstract(boolean abstract_) {
         this.abstract_ = abstract_;
+        this.setDirty();
     }
     
     @Override
@@ -99,17 +101,21 @@ public class Feature extends Element {
     
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_FONTSIZE, "15");
-               style.put(mxConstants.STYLE_EDITABLE, "1");
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
-               style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
-               style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
-               style.put(mxConstants.STYLE_DASHED,      this.abstract_ ? "1": "0");
-               style.put(mxConstants.STYLE_FONTSTYLE,   this.abstract_ ? mxConstants.FONT_ITALIC : "0");
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
-               style.put(mxConstants.STYLE_VERTICAL_LABEL_POSITION, mxConstants.ALIGN_CENTER);
-        return style;
+        String key   = "styleFeature(" + this.abstract_ + ")";
+        Map<String, Object> style = StyleRegistry.getStyle(key);
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_FONTSIZE, "15");
+                            style.put(mxConstants.STYLE_EDITABLE, "1");
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
+                            style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
+                            style.put(mxConstants.STYLE_DASHED,      this.abstract_ ? "1": "0");
+                            style.put(mxConstants.STYLE_FONTSTYLE,   this.abstract_ ? mxConstants.FONT_ITALIC : "0");
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_RECTANGLE);
+                            style.put(mxConstants.STYLE_VERTICAL_LABEL_POSITION, mxConstants.ALIGN_CENTER);
+        return StyleRegistry.putStyle(key, style);
     }
     
     @Override
@@ -8,6 +8,8 @@ import java.util.List;
 import java.util.Map;
 import model.structural.base.Diagram;
 import model.structural.base.Element;
+import model.structural.base.StyleRegistry;
+import model.structural.diagram.FeatureDiagram;
 
 /**
  * <p>Class of Model <b>Variability</b>.</p>
@@ -58,7 +60,7 @@ public class Variability extends Element {
         super(element, diagram, true);
         this.category  = element.getAttribute("category").trim();
         this.variants  = new ArrayList<>();
-        this.type      = "feature";
+        this.type      = "variability";
     }
     
     @Override
@@ -69,6 +71,8 @@ public class Variability extends Element {
     @Override
     public void setName(String name) {
         this.name = "";
+        this.updateName();
+        this.setDirty();
     }
     
     /**
@@ -85,6 +89,7 @@ public class Variability extends Element {
      */
     public void setCategory(String category) {
         this.category = category;
+        this.setDirty();
     }
     
     /**
@@ -101,6 +106,9 @@ public class Variability extends Element {
      */
     public void setVariationPoint(Feature variationPoint) {
         this.variationPoint = variationPoint;
+        if (this.diagram instanceof FeatureDiagram)
+            ((FeatureDiagram) this.diagram).updateVariationPoint(this);
+        this.setDirty();
     }
     
     /**
@@ -132,6 +140,7 @@ public class Variability extends Element {
     public void addVariant(Feature variant) {
         if (this.variants.contains(variant) == false)
             this.variants.add(variant);
+        this.setDirty();
     }
     
     /**
@@ -163,6 +172,7 @@ public class Variability extends Element {
     public void removeVariant(Feature variant) {
         if (this.variants.contains(variant))
             this.variants.remove(variant);
+        this.setDirty();
     }
     
     /**
@@ -179,6 +189,7 @@ public class Variability extends Element {
      */
     public void setVariants(List<Feature> variants) {
         this.variants = variants;
+        this.setDirty();
     }
     
     @Override
@@ -211,16 +222,20 @@ public class Variability extends Element {
     
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_FONTSIZE, "15");
-               style.put(mxConstants.STYLE_EDITABLE, "0");
+        String key   = "styleVariability(" + this.getFillColor() + ", " + this.getFontColor() + ")";
+        Map<String, Object> style = StyleRegistry.getStyle(key);
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_FONTSIZE, "15");
+                            style.put(mxConstants.STYLE_EDITABLE, "0");
 //               style.put(mxConstants.STYLE_FILLCOLOR,   mxConstants.NONE);
-               style.put(mxConstants.STYLE_FILLCOLOR,   this.getFillColor());
-               style.put(mxConstants.STYLE_FONTCOLOR,   this.getFontColor());
-               style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_ELLIPSE);
-               style.put(mxConstants.STYLE_VERTICAL_LABEL_POSITION, mxConstants.ALIGN_CENTER);
-        return style;
+                            style.put(mxConstants.STYLE_FILLCOLOR,   this.getFillColor());
+                            style.put(mxConstants.STYLE_FONTCOLOR,   this.getFontColor());
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_ELLIPSE);
+                            style.put(mxConstants.STYLE_VERTICAL_LABEL_POSITION, mxConstants.ALIGN_CENTER);
+        return StyleRegistry.putStyle(key, style);
     }
     
     /**
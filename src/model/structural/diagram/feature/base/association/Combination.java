@@ -3,6 +3,7 @@ package model.structural.diagram.feature.base.association;
 import com.mxgraph.util.mxConstants;
 import java.util.HashMap;
 import java.util.Map;
+import model.structural.base.StyleRegistry;
 import model.structural.base.association.Association;
 import model.structural.diagram.feature.base.Feature;
 import model.structural.diagram.feature.base.Variability;
@@ -58,6 +59,7 @@ public class Combination extends Association {
      */
     public void setRoot(boolean root) {
         this.root = root;
+        this.setDirty();
     }
     
     @Override
@@ -71,6 +73,7 @@ public class Combination extends Association {
      */
     public void setSource(Variability source) {
         this.source = source;
+        this.setDirty();
     }
 
     @Override
@@ -84,6 +87,7 @@ public class Combination extends Association {
      */
     public void setTarget(Feature target) {
         this.target = target;
+        this.setDirty();
     }
 
     @Override
@@ -98,15 +102,18 @@ public class Combination extends Association {
     
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_DASHED,   "0");
-               style.put(mxConstants.STYLE_EDITABLE, "0");
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
-               style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
-               style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
-               style.put(mxConstants.STYLE_ENDARROW,   mxConstants.ARROW_SPACING);
-               style.put(mxConstants.STYLE_SHAPE,      mxConstants.SHAPE_CONNECTOR);
-        return style;
+        Map<String, Object> style = StyleRegistry.getStyle("styleCombination");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_DASHED,   "0");
+                            style.put(mxConstants.STYLE_EDITABLE, "0");
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
+                            style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
+                            style.put(mxConstants.STYLE_ENDARROW,   mxConstants.ARROW_SPACING);
+                            style.put(mxConstants.STYLE_SHAPE,      mxConstants.SHAPE_CONNECTOR);
+        return StyleRegistry.putStyle("styleCombination", style);
     }
     
     @Override
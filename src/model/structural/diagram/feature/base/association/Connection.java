@@ -3,6 +3,7 @@ package model.structural.diagram.feature.base.association;
 import com.mxgraph.util.mxConstants;
 import java.util.HashMap;
 import java.util.Map;
+import model.structural.base.StyleRegistry;
 import model.structural.base.association.Association;
 import model.structural.diagram.feature.base.Feature;
 import org.w3c.dom.Element;
@@ -53,6 +54,7 @@ public class Connection extends Association {
      */
     public void setSource(Feature source) {
         this.source = source;
+        this.setDirty();
     }
 
     @Override
@@ -66,6 +68,7 @@ public class Connection extends Association {
      */
     public void setTarget(Feature target) {
         this.target = target;
+        this.setDirty();
     }
 
     /**
@@ -82,6 +85,7 @@ public class Connection extends Association {
      */
     public void setCategory(String category) {
         this.category = category;
+        this.setDirty();
     }
 
     @Override
@@ -127,17 +131,21 @@ public class Connection extends Association {
     
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_DASHED,   "0");
-               style.put(mxConstants.STYLE_EDITABLE, "0");
-               style.put(mxConstants.STYLE_ENDSIZE,  this.getEndSize());
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
-               style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
-               style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
-               style.put(mxConstants.STYLE_ENDARROW,   this.getEndArrow());
-               style.put(mxConstants.STYLE_ENDFILL,    this.getEndFill());
-               style.put(mxConstants.STYLE_SHAPE,      mxConstants.SHAPE_CONNECTOR);
-        return style;
+        String key   = "styleConnection(" + this.getEndSize() + ", " + this.getEndArrow() + ", " + this.getEndFill() + ")";
+        Map<String, Object> style = StyleRegistry.getStyle(key);
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_DASHED,   "0");
+                            style.put(mxConstants.STYLE_EDITABLE, "0");
+                            style.put(mxConstants.STYLE_ENDSIZE,  this.getEndSize());
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
+                            style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
+                            style.put(mxConstants.STYLE_ENDARROW,   this.getEndArrow());
+                            style.put(mxConstants.STYLE_ENDFILL,    this.getEndFill());
+                            style.put(mxConstants.STYLE_SHAPE,      mxConstants.SHAPE_CONNECTOR);
+        return StyleRegistry.putStyle(key, style);
     }
     
     @Override
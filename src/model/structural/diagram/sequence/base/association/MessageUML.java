@@ -5,6 +5,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import model.structural.base.Element;
+import model.structural.base.StyleRegistry;
 import model.structural.base.association.Association;
 import model.structural.diagram.classes.base.MethodUML;
 
@@ -88,6 +89,7 @@ public class MessageUML extends Association implements Comparator<MessageUML> {
      */
     public void setCategory(String category) {
         this.category = category;
+        this.setDirty();
     }
 
     /**
@@ -103,8 +105,10 @@ public class MessageUML extends Association implements Comparator<MessageUML> {
     * @param method Method.
      */
     public void changeName(MethodUML method) {
-        if ((this.method != null) && (this.method.equals(method)))
+        if ((this.method != null) && (this.method.equals(method))) {
             this.name = "." + method.getShortSignature();
+            this.setDirty();
+        }
     }
     
     /**
@@ -113,6 +117,7 @@ public class MessageUML extends Association implements Comparator<MessageUML> {
      */
     public void setName(String name) {
         this.name = name;
+        this.setDirty();
     }
 
     /**
@@ -129,6 +134,8 @@ public class MessageUML extends Association implements Comparator<MessageUML> {
      */
     public void setSequence(Integer sequence) {
         this.sequence = this.sequence.equals(0) ? sequence : this.sequence;
+        this.clearViews();
+        this.setDirty();
     }
     
     /**
@@ -137,6 +144,8 @@ public class MessageUML extends Association implements Comparator<MessageUML> {
      */
     public void changeSequence(Integer sequence) {
         this.sequence = sequence;
+        this.clearViews();
+        this.setDirty();
     }
 
     @Override
@@ -159,6 +168,7 @@ public class MessageUML extends Association implements Comparator<MessageUML> {
     public void setMethod(MethodUML method) {
         this.method =  method;
         this.name   = (method == null) ? ".operation" : "." + method.getShortSignature();
+        this.setDirty();
     }
     
     /**
@@ -204,17 +214,21 @@ public class MessageUML extends Association implements Comparator<MessageUML> {
     
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_DASHED,   "0");
-               style.put(mxConstants.STYLE_MOVABLE,  "0");
-               style.put(mxConstants.STYLE_EDITABLE, "1");
-               style.put(mxConstants.STYLE_ENDSIZE,  "15");
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
-               style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
-               style.put(mxConstants.STYLE_SHAPE,      mxConstants.SHAPE_CONNECTOR);
-               style.put(mxConstants.STYLE_ENDARROW,   this.getEndArrow());
-               style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
-        return style;
+        String key   = "styleMessageUML(" + this.getEndArrow() + ")";
+        Map<String, Object> style = StyleRegistry.getStyle(key);
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_DASHED,   "0");
+                            style.put(mxConstants.STYLE_MOVABLE,  "0");
+                            style.put(mxConstants.STYLE_EDITABLE, "1");
+                            style.put(mxConstants.STYLE_ENDSIZE,  "15");
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
+                            style.put(mxConstants.STYLE_SHAPE,      mxConstants.SHAPE_CONNECTOR);
+                            style.put(mxConstants.STYLE_ENDARROW,   this.getEndArrow());
+                            style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
+        return StyleRegistry.putStyle(key, style);
     }
     
     @Override
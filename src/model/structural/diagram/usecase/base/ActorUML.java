@@ -6,6 +6,7 @@ import java.util.HashMap;
 import java.util.Map;
 import model.structural.base.Diagram;
 import model.structural.base.Element;
+import model.structural.base.StyleRegistry;
 
 /**
  * <p>Class of Model <b>ActorUML</b>.</p>
@@ -49,13 +50,16 @@ public class ActorUML extends Element {
     
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_VERTICAL_LABEL_POSITION, mxConstants.ALIGN_BOTTOM);
-               style.put(mxConstants.STYLE_IMAGE, "/images/diagram/usecase/actor.jpg");
-               style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_IMAGE);
-               style.put(mxConstants.STYLE_FONTCOLOR, "#000000");
-               style.put(mxConstants.STYLE_FONTSIZE,  "15");
-               style.put(mxConstants.STYLE_EDITABLE,  "1");
-        return style;
+        Map<String, Object> style = StyleRegistry.getStyle("styleActorUML");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_VERTICAL_LABEL_POSITION, mxConstants.ALIGN_BOTTOM);
+                            style.put(mxConstants.STYLE_IMAGE, "/images/diagram/usecase/actor.jpg");
+                            style.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_IMAGE);
+                            style.put(mxConstants.STYLE_FONTCOLOR, "#000000");
+                            style.put(mxConstants.STYLE_FONTSIZE,  "15");
+                            style.put(mxConstants.STYLE_EDITABLE,  "1");
+        return StyleRegistry.putStyle("styleActorUML", style);
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package model.structural.diagram.usecase.base.association;
 import com.mxgraph.util.mxConstants;
 import java.util.HashMap;
 import java.util.Map;
+import model.structural.base.StyleRegistry;
 import model.structural.base.association.Association;
 import model.structural.diagram.usecase.base.UseCaseUML;
 
@@ -48,6 +49,7 @@ public class ExtendUML extends Association {
      */
     public void setSource(UseCaseUML source) {
         this.source = source;
+        this.setDirty();
     }
 
     @Override
@@ -61,6 +63,7 @@ public class ExtendUML extends Association {
      */
     public void setTarget(UseCaseUML target) {
         this.target = target;
+        this.setDirty();
     }
     
     @Override
@@ -75,16 +78,19 @@ public class ExtendUML extends Association {
     
     @Override
     public Map getStyle() {
-        Map    style = new HashMap<>();
-               style.put(mxConstants.STYLE_DASHED,   "1");
-               style.put(mxConstants.STYLE_EDITABLE, "0");
-               style.put(mxConstants.STYLE_ENDSIZE,  "15");
-               style.put(mxConstants.STYLE_FONTSIZE, "15");
-               style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
-               style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
-               style.put(mxConstants.STYLE_SHAPE,      mxConstants.SHAPE_CONNECTOR);
-               style.put(mxConstants.STYLE_ENDARROW,   mxConstants.ARROW_OPEN);
-               style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
-        return style;
+        Map<String, Object> style = StyleRegistry.getStyle("styleExtendUML");
+        if (style != null)
+            return style;
+                            style = new HashMap<>();
+                            style.put(mxConstants.STYLE_DASHED,   "1");
+                            style.put(mxConstants.STYLE_EDITABLE, "0");
+                            style.put(mxConstants.STYLE_ENDSIZE,  "15");
+                            style.put(mxConstants.STYLE_FONTSIZE, "15");
+                            style.put(mxConstants.STYLE_FONTCOLOR,   "#000000");
+                            style.put(mxConstants.STYLE_STROKECOLOR, "#000000");
+                            style.put(mxConstants.STYLE_SHAPE,      mxConstants.SHAPE_CONNECTOR);
+                            style.put(mxConstants.STYLE_ENDARROW,   mxConstants.ARROW_OPEN);
+                            style.put(mxConstants.STYLE_STARTARROW, mxConstants.ARROW_SPACING);
+        return StyleRegistry.putStyle("styleExtendUML", style);
     }
 }
\ No newline at end of file